@@ -0,0 +1,238 @@
+import Graphs.Allocations;
+import Graphs.BottleneckIndex;
+import Graphs.Edge;
+import Graphs.Graph;
+import Graphs.GraphGenerator;
+import Graphs.MstPlanner;
+import Graphs.MstWorkspace;
+
+import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Micro-benchmark harness for the MST implementations (JMH-style, no external dependencies).
+// Every benchmark x (family, vertices, density, weights) combination gets its own input, a number of
+// warmup iterations, then measured iterations; the whole call is timed (Kruskal's sort included).
+// Per-op allocation is read from the thread allocation counter and GC activity from the
+// GarbageCollectorMXBeans. Results go to stdout and to a CSV (or JSON) file.
+//
+// Settings (system properties, comma separated lists):
+//   bench.family=gnm,rmat,grid,complete (density is ignored by grid and complete)
+//   bench.vertices=1000,5000  bench.density=0.005,0.05  bench.weights=uniform,duplicates
+//   bench.warmup=5  bench.iterations=10  bench.seed=42  bench.filter=<regex on benchmark name>
+//   bench.out=bench_results.csv  bench.format=csv|json
+//   bench.queries=1000000 (random vertex pairs per BottleneckIndex.bottlenecks op; queries/s = queries / mean)
+public class BENCHMARK {
+
+    // consumes results so the JIT cannot drop the measured work
+    private static volatile long blackhole;
+
+    private static final Map<String, Function<Graph, LongSupplier>> BENCHMARKS = new LinkedHashMap<>();
+    static {
+        BENCHMARKS.put("Graph.prim", g -> () -> g.prim().totalCost);
+        BENCHMARKS.put("Graph.kruskal", g -> () -> g.kruskal().totalCost);
+        // allocation-free kernels: after warmup alloc_bytes_per_op should read 0
+        BENCHMARKS.put("Graph.primInto", g -> {
+            MstWorkspace ws = new MstWorkspace();
+            return () -> { g.primInto(ws); return ws.treeCost(); };
+        });
+        BENCHMARKS.put("Graph.kruskalInto", g -> {
+            MstWorkspace ws = new MstWorkspace();
+            return () -> { g.kruskalInto(ws); return ws.treeCost(); };
+        });
+        // weight matrix built inside the op: V^2 ints, no per-edge objects
+        BENCHMARKS.put("Graph.primDense", g -> () -> g.primDense().totalCost);
+        BENCHMARKS.put("prim_algorithm.prim", g -> {
+            List<String> nodes = g.getNodes();
+            Map<String, List<prim_algorithm.Edge>> adj = new HashMap<>();
+            for (String n : nodes) adj.put(n, new ArrayList<>());
+            for (Edge e : g.getEdges()) {
+                adj.get(e.getFrom()).add(new prim_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+                adj.get(e.getTo()).add(new prim_algorithm.Edge(e.getTo(), e.getFrom(), e.getWeight()));
+            }
+            return () -> prim_algorithm.prim(adj, nodes).totalCost;
+        });
+        BENCHMARKS.put("kruskal_algorithm.kruskalMST", g -> {
+            List<String> nodes = g.getNodes();
+            List<kruskal_algorithm.Edge> edges = new ArrayList<>(g.edgeCount());
+            for (Edge e : g.getEdges()) edges.add(new kruskal_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+            return () -> (int) kruskal_algorithm.kruskalMST(nodes, edges).get("total_cost");
+        });
+        // planner: statistics pass + whichever engine it picks (-Dmst.planner.* applies)
+        BENCHMARKS.put("MstPlanner.run", g -> {
+            MstPlanner planner = MstPlanner.fromSystemProperties();
+            return () -> planner.run(g).totalCost;
+        });
+        // bottleneck queries: index build from a finished tree, then one parallel batch per op
+        BENCHMARKS.put("BottleneckIndex.build", g -> {
+            Graph.MSTResult mst = g.kruskal();
+            return () -> new BottleneckIndex(g, mst).vertexCount();
+        });
+        BENCHMARKS.put("BottleneckIndex.bottlenecks", g -> {
+            BottleneckIndex index = new BottleneckIndex(g, g.kruskal());
+            int q = Integer.getInteger("bench.queries", 1_000_000);
+            Random rnd = new Random(Long.getLong("bench.seed", 42L));
+            int[] us = new int[q], vs = new int[q];
+            for (int i = 0; i < q; i++) {
+                us[i] = rnd.nextInt(g.vertexCount());
+                vs[i] = rnd.nextInt(g.vertexCount());
+            }
+            return () -> {
+                long sum = 0;
+                for (int b : index.bottlenecks(us, vs)) sum += b;
+                return sum;
+            };
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] families = System.getProperty("bench.family", "gnm").split(",");
+        int[] vertices = ints(System.getProperty("bench.vertices", "1000,5000"));
+        double[] densities = doubles(System.getProperty("bench.density", "0.005,0.05"));
+        String[] weights = System.getProperty("bench.weights", "uniform,duplicates").split(",");
+        int warmup = Integer.getInteger("bench.warmup", 5);
+        int iterations = Integer.getInteger("bench.iterations", 10);
+        long seed = Long.getLong("bench.seed", 42L);
+        String filter = System.getProperty("bench.filter", ".*");
+        String out = System.getProperty("bench.out", "bench_results.csv");
+        boolean json = "json".equals(System.getProperty("bench.format", "csv"));
+
+        List<Result> results = new ArrayList<>();
+        for (String family : families) {
+            for (int v : vertices) {
+                for (double density : densities) {
+                    for (String w : weights) {
+                        Graph g = generate(family, v, density, w, seed);
+                        for (Map.Entry<String, Function<Graph, LongSupplier>> b : BENCHMARKS.entrySet()) {
+                            if (!b.getKey().matches(filter)) continue;
+                            Result r = measure(b.getKey(), family, g, density, w, b.getValue().apply(g), warmup, iterations);
+                            System.out.println(r.describe());
+                            results.add(r);
+                        }
+                    }
+                }
+            }
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(out))) {
+            if (json) {
+                writer.write("[\n");
+                for (int i = 0; i < results.size(); i++) {
+                    writer.write("  " + results.get(i).toJson());
+                    writer.write(i < results.size() - 1 ? ",\n" : "\n");
+                }
+                writer.write("]\n");
+            } else {
+                writer.write(Result.CSV_HEADER);
+                writer.newLine();
+                for (Result r : results) {
+                    writer.write(r.toCsv());
+                    writer.newLine();
+                }
+            }
+        }
+        System.out.println("Benchmark results written to: " + new File(out).getAbsolutePath());
+    }
+
+    // --- measurement ---
+    private static Result measure(String name, String family, Graph g, double density, String weights,
+                                  LongSupplier op, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) blackhole += op.getAsLong();
+
+        double[] ms = new double[iterations];
+        long allocated = 0, gcCount = 0, gcTimeMs = 0;
+        for (int i = 0; i < iterations; i++) {
+            long gc0 = gcCount(), gcT0 = gcTime(), a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            blackhole += op.getAsLong();
+            long t1 = System.nanoTime();
+            allocated += allocatedBytes() - a0;
+            gcCount += gcCount() - gc0;
+            gcTimeMs += gcTime() - gcT0;
+            ms[i] = (t1 - t0) / 1_000_000.0;
+        }
+        return new Result(name, family, g.vertexCount(), g.edgeCount(), density, weights, ms,
+                iterations == 0 ? 0 : allocated / iterations, gcCount, gcTimeMs);
+    }
+
+    private static long allocatedBytes() {
+        return Math.max(0, Allocations.currentThreadBytes());
+    }
+
+    private static long gcCount() {
+        long c = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) c += Math.max(0, gc.getCollectionCount());
+        return c;
+    }
+
+    private static long gcTime() {
+        long t = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) t += Math.max(0, gc.getCollectionTime());
+        return t;
+    }
+
+    // --- inputs: seeded GraphGenerator graphs, edges = density * V(V-1)/2 (at least a spanning tree) ---
+    private static Graph generate(String family, int v, double density, String weights, long seed) {
+        long edges = Math.max(v - 1, Math.round(density * ((double) v * (v - 1) / 2)));
+        return new GraphGenerator(GraphGenerator.Family.valueOf(family.trim().toUpperCase()), v, edges,
+                GraphGenerator.Weights.valueOf(weights.trim().toUpperCase())).seed(seed).generate();
+    }
+
+    private static int[] ints(String csv) {
+        return Arrays.stream(csv.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    }
+
+    private static double[] doubles(String csv) {
+        return Arrays.stream(csv.split(",")).mapToDouble(s -> Double.parseDouble(s.trim())).toArray();
+    }
+
+    // --- one benchmark x parameter row ---
+    private static class Result {
+        static final String CSV_HEADER = "benchmark,family,vertices,edges,density,weights,samples,mean_ms,stddev_ms,min_ms,p50_ms,max_ms,alloc_bytes_per_op,gc_count,gc_time_ms";
+
+        final String name, family, weights;
+        final int vertices, edges, samples;
+        final double density, mean, stddev, min, p50, max;
+        final long allocPerOp, gcCount, gcTimeMs;
+
+        Result(String name, String family, int vertices, int edges, double density, String weights, double[] ms,
+               long allocPerOp, long gcCount, long gcTimeMs) {
+            this.name = name; this.family = family; this.vertices = vertices; this.edges = edges; this.density = density;
+            this.weights = weights; this.samples = ms.length;
+            this.allocPerOp = allocPerOp; this.gcCount = gcCount; this.gcTimeMs = gcTimeMs;
+            double[] sorted = ms.clone();
+            Arrays.sort(sorted);
+            double sum = 0;
+            for (double x : ms) sum += x;
+            mean = ms.length == 0 ? 0 : sum / ms.length;
+            double sq = 0;
+            for (double x : ms) sq += (x - mean) * (x - mean);
+            stddev = ms.length < 2 ? 0 : Math.sqrt(sq / (ms.length - 1));
+            min = ms.length == 0 ? 0 : sorted[0];
+            p50 = ms.length == 0 ? 0 : sorted[ms.length / 2];
+            max = ms.length == 0 ? 0 : sorted[ms.length - 1];
+        }
+
+        String describe() {
+            return String.format(Locale.US, "%-30s %-8s V=%-7d E=%-9d %-10s %9.3f ms +- %7.3f  alloc/op=%,d B  gc=%d (%d ms)",
+                    name, family, vertices, edges, weights, mean, stddev, allocPerOp, gcCount, gcTimeMs);
+        }
+
+        String toCsv() {
+            return String.format(Locale.US, "%s,%s,%d,%d,%s,%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%d,%d,%d",
+                    name, family, vertices, edges, density, weights, samples, mean, stddev, min, p50, max,
+                    allocPerOp, gcCount, gcTimeMs);
+        }
+
+        String toJson() {
+            return String.format(Locale.US, "{\"benchmark\": \"%s\", \"family\": \"%s\", \"vertices\": %d, \"edges\": %d, \"density\": %s, "
+                            + "\"weights\": \"%s\", \"samples\": %d, \"mean_ms\": %.4f, \"stddev_ms\": %.4f, \"min_ms\": %.4f, "
+                            + "\"p50_ms\": %.4f, \"max_ms\": %.4f, \"alloc_bytes_per_op\": %d, \"gc_count\": %d, \"gc_time_ms\": %d}",
+                    name, family, vertices, edges, density, weights, samples, mean, stddev, min, p50, max,
+                    allocPerOp, gcCount, gcTimeMs);
+        }
+    }
+}
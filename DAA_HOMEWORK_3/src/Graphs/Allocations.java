@@ -0,0 +1,25 @@
+package Graphs;
+
+import java.lang.management.ManagementFactory;
+
+// Bytes allocated by the current thread, from the HotSpot ThreadMXBean.
+// Returns -1 when the JVM does not support (or has disabled) the counter.
+// The query itself does not allocate, so it can bracket allocation-free code.
+public final class Allocations {
+    private static final com.sun.management.ThreadMXBean BEAN = bean();
+
+    private Allocations() {}
+
+    public static long currentThreadBytes() {
+        return BEAN == null ? -1 : BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean bean() {
+        java.lang.management.ThreadMXBean b = ManagementFactory.getThreadMXBean();
+        if (!(b instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean hs = (com.sun.management.ThreadMXBean) b;
+        if (!hs.isThreadAllocatedMemorySupported()) return null;
+        if (!hs.isThreadAllocatedMemoryEnabled()) hs.setThreadAllocatedMemoryEnabled(true);
+        return hs;
+    }
+}
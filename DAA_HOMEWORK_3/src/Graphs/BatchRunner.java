@@ -0,0 +1,156 @@
+package Graphs;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+// Runs the graphs of a multi-graph input concurrently. For every graph the two
+// jobs (usually Prim and Kruskal) are submitted as separate tasks; when both are
+// done the pair is handed to the sink strictly in input order, so outputs can be
+// streamed as results complete. At most maxInFlight graphs are read but not yet
+// written at any time: the reader blocks on a semaphore, which keeps memory
+// bounded no matter how many graphs the input holds.
+// On failure the output stays an in-order prefix: a read error still writes
+// every graph submitted before it; a failing job (or sink) writes the graphs
+// before its index and nothing after. run() then rethrows the first failure.
+public final class BatchRunner<A, B> {
+    public enum Mode { FORK_JOIN, VIRTUAL_THREADS }
+
+    // receives results in input order, from one thread at a time
+    public interface Sink<A, B> {
+        void write(GraphJsonReader.Entry entry, A first, B second) throws IOException;
+    }
+
+    private final Mode mode;
+    private final int parallelism;
+    private final int maxInFlight;
+
+    private final Object writeLock = new Object();
+    private final Map<Integer, Done<A, B>> pending = new HashMap<>();
+    private int nextToWrite;
+    private int stopAt;                 // results at this index and beyond are not written
+    private volatile Throwable failure;
+
+    public BatchRunner(Mode mode, int parallelism, int maxInFlight) {
+        if (parallelism < 1 || maxInFlight < 1) throw new IllegalArgumentException("parallelism and maxInFlight must be >= 1");
+        this.mode = mode;
+        this.parallelism = parallelism;
+        this.maxInFlight = maxInFlight;
+    }
+
+    // -Dbatch.mode=FORK_JOIN|VIRTUAL_THREADS -Dbatch.threads=N -Dbatch.inflight=N
+    public static <A, B> BatchRunner<A, B> fromSystemProperties() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        Mode mode = Mode.valueOf(System.getProperty("batch.mode", Mode.FORK_JOIN.name()));
+        int threads = Integer.getInteger("batch.threads", cores);
+        int inFlight = Integer.getInteger("batch.inflight", 4 * threads);
+        return new BatchRunner<>(mode, threads, inFlight);
+    }
+
+    // second may be null when only one job per graph is needed
+    public void run(GraphJsonReader reader, Function<GraphJsonReader.Entry, A> first,
+                    Function<GraphJsonReader.Entry, B> second, Sink<A, B> sink) throws IOException {
+        ExecutorService executor = mode == Mode.FORK_JOIN
+                ? new ForkJoinPool(parallelism)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        // virtual threads are unbounded, so cap the jobs that actually run at once
+        Semaphore running = mode == Mode.VIRTUAL_THREADS ? new Semaphore(parallelism) : null;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        pending.clear();
+        nextToWrite = 0;
+        stopAt = Integer.MAX_VALUE;
+        failure = null;
+        try {
+            int seq = 0;
+            while (failure == null) {
+                inFlight.acquireUninterruptibly();
+                GraphJsonReader.Entry entry = next(reader);
+                if (entry == null) { inFlight.release(); break; }
+                int index = seq++;
+                CompletableFuture<A> a = CompletableFuture.supplyAsync(() -> call(first, entry, running), executor);
+                CompletableFuture<B> b = second == null
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.supplyAsync(() -> call(second, entry, running), executor);
+                a.thenCombine(b, (x, y) -> new Done<>(entry, x, y))
+                 .whenComplete((done, err) -> {
+                     if (err != null) failAt(index, err);
+                     deliver(index, err != null ? new Done<>(null, null, null) : done, sink, inFlight);
+                 });
+            }
+            // every permit back means every submitted graph has been written
+            inFlight.acquireUninterruptibly(maxInFlight);
+        } finally {
+            executor.shutdown();
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) throw (IOException) failure;
+            throw new IOException("Batch job failed", failure);
+        }
+    }
+
+    // a read error stops reading, but graphs already submitted still get written
+    private GraphJsonReader.Entry next(GraphJsonReader reader) {
+        try {
+            return reader.next();
+        } catch (IOException ex) {
+            fail(ex);
+            return null;
+        }
+    }
+
+    private static <T> T call(Function<GraphJsonReader.Entry, T> job, GraphJsonReader.Entry entry, Semaphore running) {
+        if (running == null) return job.apply(entry);
+        running.acquireUninterruptibly();
+        try {
+            return job.apply(entry);
+        } finally {
+            running.release();
+        }
+    }
+
+    // reorder buffer: park the result, then flush every result that is next in line
+    private void deliver(int index, Done<A, B> done, Sink<A, B> sink, Semaphore inFlight) {
+        synchronized (writeLock) {
+            pending.put(index, done);
+            Done<A, B> d;
+            while ((d = pending.remove(nextToWrite)) != null) {
+                int i = nextToWrite++;
+                try {
+                    if (i < stopAt && d.entry != null) sink.write(d.entry, d.first, d.second);
+                } catch (Throwable t) {
+                    failAt(i, t);
+                }
+                inFlight.release();
+            }
+        }
+    }
+
+    // the job or write of graph index failed: later graphs are no longer written
+    private void failAt(int index, Throwable t) {
+        synchronized (writeLock) {
+            fail(t);
+            stopAt = Math.min(stopAt, index);
+        }
+    }
+
+    private void fail(Throwable t) {
+        while (t instanceof CompletionException && t.getCause() != null) t = t.getCause();
+        synchronized (writeLock) {
+            if (failure == null) failure = t;
+        }
+    }
+
+    private static final class Done<A, B> {
+        final GraphJsonReader.Entry entry;
+        final A first;
+        final B second;
+        Done(GraphJsonReader.Entry entry, A first, B second) { this.entry = entry; this.first = first; this.second = second; }
+    }
+}
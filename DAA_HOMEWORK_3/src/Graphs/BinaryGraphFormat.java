@@ -0,0 +1,243 @@
+package Graphs;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Compact on-disk graph, little-endian, every section 8-byte aligned:
+//
+//   header   magic "MSTG", version, vertexCount, edgeCount,
+//            then the byte offset of each section as a long
+//   names    int[n + 1] byte offsets into the UTF-8 blob, then the blob
+//   edges    edgeFrom[m], edgeTo[m], edgeWeight[m]
+//   csr      offsets[n + 1], targets[2m], weights[2m], arcEdge[2m]
+//
+// map() memory-maps every int section and hands the IntBuffers to CsrGraph as
+// they are, so loading costs a few mmap calls and no parsing or copying.
+// Vertex names are decoded only when a caller first needs them.
+public final class BinaryGraphFormat {
+    public static final int MAGIC = 0x4753544D;   // "MSTG" read little-endian
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 128;
+    private static final int SECTIONS = 9;         // nameOffsets, nameBytes, 3 edge arrays, 4 csr arrays
+
+    private BinaryGraphFormat() {}
+
+    // --- vertex names kept in the mapped file ---
+    public static final class NameTable {
+        private final IntBuffer offsets;
+        private final ByteBuffer bytes;
+        private final int count;
+
+        NameTable(IntBuffer offsets, ByteBuffer bytes, int count) {
+            this.offsets = offsets;
+            this.bytes = bytes;
+            this.count = count;
+        }
+
+        public int size() { return count; }
+
+        public String get(int v) {
+            int from = offsets.get(v), to = offsets.get(v + 1);
+            byte[] b = new byte[to - from];
+            bytes.get(from, b);
+            return new String(b, StandardCharsets.UTF_8);
+        }
+
+        String[] decodeAll() {
+            String[] out = new String[count];
+            for (int v = 0; v < count; v++) out[v] = get(v);
+            return out;
+        }
+    }
+
+    // --- writing ---
+    public static void write(Graph g, Path file) throws IOException {
+        CsrGraph c = g.getCsr();
+        int n = c.vertexCount(), m = c.edgeCount(), arcs = c.arcCount();
+        byte[][] encoded = new byte[n][];
+        long nameBytes = 0;
+        for (int v = 0; v < n; v++) {
+            encoded[v] = g.nameOf(v).getBytes(StandardCharsets.UTF_8);
+            nameBytes += encoded[v].length;
+        }
+        if (nameBytes > Integer.MAX_VALUE) throw new IOException("Vertex name table larger than 2 GB");
+
+        long[] section = layout(n, m, nameBytes);
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            Out out = new Out(ch);
+            out.put(header(n, m, section));
+            out.padTo(section[0]);
+
+            int pos = 0;
+            out.putInt(pos);
+            for (byte[] b : encoded) out.putInt(pos += b.length);
+            out.padTo(section[1]);
+            for (byte[] b : encoded) out.put(b);
+
+            out.padTo(section[2]);
+            for (int e = 0; e < m; e++) out.putInt(c.edgeFrom(e));
+            out.padTo(section[3]);
+            for (int e = 0; e < m; e++) out.putInt(c.edgeTo(e));
+            out.padTo(section[4]);
+            for (int e = 0; e < m; e++) out.putInt(c.edgeWeight(e));
+
+            out.padTo(section[5]);
+            for (int v = 0; v <= n; v++) out.putInt(v < n ? c.arcStart(v) : arcs);
+            out.padTo(section[6]);
+            for (int a = 0; a < arcs; a++) out.putInt(c.arcTarget(a));
+            out.padTo(section[7]);
+            for (int a = 0; a < arcs; a++) out.putInt(c.arcWeight(a));
+            out.padTo(section[8]);
+            for (int a = 0; a < arcs; a++) out.putInt(c.arcEdge(a));
+            out.flush();
+        }
+    }
+
+    // --- zero-copy loading ---
+    public static Graph map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER_BYTES) throw new IOException("Not a binary graph file (" + size + " bytes, shorter than the header): " + file);
+            ByteBuffer h = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (h.getInt(0) != MAGIC) throw new IOException("Not a binary graph file: " + file);
+            if (h.getInt(4) != VERSION) throw new IOException("Unsupported binary graph version " + h.getInt(4));
+            int n = h.getInt(8), m = h.getInt(12);
+            // arcs and the n + 1 offsets must fit an int; everything else is checked against the file size
+            if (n < 0 || m < 0 || n == Integer.MAX_VALUE || m > Integer.MAX_VALUE / 2)
+                throw new IOException("Corrupt binary graph header: vertexCount " + n + ", edgeCount " + m + ": " + file);
+            long[] section = new long[SECTIONS];
+            for (int s = 0; s < SECTIONS; s++) section[s] = h.getLong(16 + 8 * s);
+            int arcs = 2 * m;
+            long[] length = layoutLengths(n, m, 0);
+            long need = HEADER_BYTES;
+            for (long l : length) need += l;
+            if (need > size)
+                throw new IOException("Truncated binary graph: " + n + " vertices and " + m + " edges need at least "
+                        + need + " bytes, file has " + size + ": " + file);
+            checkSection(file, size, section, 0, length[0]);
+
+            IntBuffer nameOffsets = ints(ch, section[0], n + 1);
+            length[1] = nameOffsets.get(n);
+            for (int s = 1; s < SECTIONS; s++) checkSection(file, size, section, s, length[s]);
+            ByteBuffer nameBytes = ch.map(FileChannel.MapMode.READ_ONLY, section[1], length[1]);
+            CsrGraph csr = new CsrGraph(n, m,
+                    ints(ch, section[2], m), ints(ch, section[3], m), ints(ch, section[4], m),
+                    ints(ch, section[5], n + 1), ints(ch, section[6], arcs),
+                    ints(ch, section[7], arcs), ints(ch, section[8], arcs));
+            return new Graph(new NameTable(nameOffsets, nameBytes, n), csr);
+        }
+    }
+
+    // converts every graph of the JSON input into <outDir>/graph_<id>.mstg
+    public static void convert(Path json, Path outDir) throws IOException {
+        Files.createDirectories(outDir);
+        try (GraphJsonReader reader = new GraphJsonReader(new FileInputStream(json.toFile()))) {
+            for (GraphJsonReader.Entry e; (e = reader.next()) != null; ) {
+                Path out = outDir.resolve("graph_" + e.id + ".mstg");
+                write(e.graph, out);
+                System.out.println("Wrote " + out + " (" + e.graph.vertexCount() + " vertices, "
+                        + e.graph.edgeCount() + " edges)");
+            }
+        }
+    }
+
+    // usage: BinaryGraphFormat <input.json> <output dir>
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: BinaryGraphFormat <input.json> <output dir>");
+            return;
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    // byte offset of every section, plus the file size as the last entry
+    static long[] layout(int n, int m, long nameBytes) {
+        long[] length = layoutLengths(n, m, nameBytes);
+        long[] section = new long[SECTIONS + 1];
+        long at = HEADER_BYTES;
+        for (int s = 0; s < SECTIONS; s++) {
+            section[s] = at;
+            at = align(at + length[s]);
+        }
+        section[SECTIONS] = at;
+        return section;
+    }
+
+    // byte length of every section, in file order
+    private static long[] layoutLengths(int n, int m, long nameBytes) {
+        long arcs = 2L * m;
+        return new long[]{
+                4L * (n + 1), nameBytes,
+                4L * m, 4L * m, 4L * m,
+                4L * (n + 1), 4L * arcs, 4L * arcs, 4L * arcs
+        };
+    }
+
+    // section s must start after the header, not before section s - 1, and end inside the file
+    private static void checkSection(Path file, long size, long[] section, int s, long length) throws IOException {
+        long at = section[s], min = s == 0 ? HEADER_BYTES : section[s - 1];
+        if (length < 0 || at < min || at > size - length)
+            throw new IOException("Corrupt binary graph: section " + s + " at " + at + " (" + length
+                    + " bytes) is outside the file (" + size + " bytes): " + file);
+    }
+
+    static byte[] header(int n, int m, long[] section) {
+        ByteBuffer h = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        h.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(m);
+        for (int s = 0; s < SECTIONS; s++) h.putLong(section[s]);
+        return h.array();
+    }
+
+    private static IntBuffer ints(FileChannel ch, long at, int count) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_ONLY, at, 4L * count).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static long align(long at) { return (at + 7) & ~7L; }
+
+    // buffered little-endian writer on a file channel
+    private static final class Out {
+        private final FileChannel ch;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private long written;
+
+        Out(FileChannel ch) { this.ch = ch; }
+
+        void putInt(int v) throws IOException { ensure(4); buf.putInt(v); }
+        void putLong(long v) throws IOException { ensure(8); buf.putLong(v); }
+
+        void put(byte[] b) throws IOException {
+            for (int off = 0; off < b.length; ) {
+                ensure(1);
+                int len = Math.min(buf.remaining(), b.length - off);
+                buf.put(b, off, len);
+                off += len;
+            }
+        }
+
+        void padTo(long at) throws IOException {
+            while (written + buf.position() < at) { ensure(1); buf.put((byte) 0); }
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) written += ch.write(buf);
+            buf.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buf.remaining() < bytes) flush();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package Graphs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Bottleneck (minimax) path queries on a minimum spanning forest: the heaviest
+// edge on the best u-v path of the graph is the heaviest edge on the u-v tree
+// path, which is the weight of lca(u, v) in the Kruskal reconstruction tree.
+//
+// The reconstruction tree is never stored. Tree edges are merged in weight
+// order, and every merge appends one component's vertex list to the other's,
+// recording the merge weight in the gap between the two. In that leaf order the
+// LCA weight of u and v is the largest gap between them. Queries are therefore
+// a range maximum over V - 1 gaps, answered in O(1) from a sparse table with
+// two reads. Building costs O(V log V) time and ints.
+//
+// Gaps between different components hold NO_PATH. The index is immutable, so
+// batches of queries run in parallel on a fork/join pool.
+public final class BottleneckIndex {
+    public static final int NO_PATH = Integer.MAX_VALUE;   // u and v are in different components
+    public static final int SAME_VERTEX = Integer.MIN_VALUE;  // u == v: a path without edges
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private final int vertexCount;
+    private final int[] pos;          // vertex -> position in leaf order
+    private final int[] component;    // vertex -> component id
+    private final int[][] table;      // table[k][i] = max(gap[i .. i + 2^k - 1])
+
+    public BottleneckIndex(Graph g, Graph.MSTResult forest) {
+        this(g.vertexCount(), ids(g, forest, true), ids(g, forest, false), weights(forest), forest.mstEdges.size());
+    }
+
+    // forest edges as vertex ids; any forest works, not only a minimum one
+    public BottleneckIndex(int vertexCount, int[] from, int[] to, int[] weight, int count) {
+        int n = vertexCount;
+        this.vertexCount = n;
+        int[] order = RadixSort.order(weight, count);
+
+        // merge components in weight order; every component is a linked list of its vertices
+        UnionFind uf = new UnionFind(n);
+        int[] head = new int[n], tail = new int[n], next = new int[n], gapAfter = new int[n];
+        for (int v = 0; v < n; v++) {
+            head[v] = tail[v] = v;
+            next[v] = -1;
+            gapAfter[v] = NO_PATH;
+        }
+        for (int i : order) {
+            int a = uf.find(from[i]), b = uf.find(to[i]);
+            if (a == b) throw new IllegalArgumentException("Not a forest: edge " + from[i] + "-" + to[i] + " closes a cycle");
+            uf.union(a, b);
+            int r = uf.find(a);
+            next[tail[a]] = head[b];
+            gapAfter[tail[a]] = weight[i];
+            int h = head[a], t = tail[b];
+            head[r] = h;
+            tail[r] = t;
+        }
+
+        // lay out the lists one component after another
+        pos = new int[n];
+        component = new int[n];
+        int[] gap = new int[Math.max(0, n - 1)];
+        int p = 0, components = 0;
+        for (int v = 0; v < n; v++) {
+            if (uf.find(v) != v) continue;
+            for (int x = head[v]; x >= 0; x = next[x]) {
+                pos[x] = p;
+                component[x] = components;
+                if (p < gap.length) gap[p] = gapAfter[x];
+                p++;
+            }
+            components++;
+        }
+
+        // sparse table of range maxima over the gaps
+        int levels = gap.length == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(gap.length);
+        table = new int[levels][];
+        table[0] = gap;
+        for (int k = 1; k < levels; k++) {
+            int[] prev = table[k - 1], cur = new int[gap.length - (1 << k) + 1];
+            int half = 1 << (k - 1);
+            for (int i = 0; i < cur.length; i++) cur[i] = Math.max(prev[i], prev[i + half]);
+            table[k] = cur;
+        }
+    }
+
+    public int vertexCount() { return vertexCount; }
+
+    // heaviest edge on the best u-v path; NO_PATH across components, SAME_VERTEX for u == v
+    public int bottleneck(int u, int v) {
+        check(u);
+        check(v);
+        if (u == v) return SAME_VERTEX;
+        if (component[u] != component[v]) return NO_PATH;
+        int l = pos[u], r = pos[v];
+        if (l > r) { int t = l; l = r; r = t; }
+        // gaps l .. r-1
+        int k = 31 - Integer.numberOfLeadingZeros(r - l);
+        return Math.max(table[k][l], table[k][r - (1 << k)]);
+    }
+
+    public int bottleneck(Graph g, String u, String v) { return bottleneck(g.idOf(u), g.idOf(v)); }
+
+    public boolean connected(int u, int v) {
+        check(u);
+        check(v);
+        return component[u] == component[v];
+    }
+
+    // can u reach v using only edges of weight <= threshold?
+    public boolean connectedWithin(int u, int v, int threshold) {
+        return u == v ? connected(u, v) : connected(u, v) && bottleneck(u, v) <= threshold;
+    }
+
+    // --- batches ---
+    public int[] bottlenecks(int[] us, int[] vs) { return bottlenecks(us, vs, ForkJoinPool.commonPool()); }
+
+    public int[] bottlenecks(int[] us, int[] vs, ForkJoinPool pool) {
+        if (us.length != vs.length) throw new IllegalArgumentException("us and vs differ in length");
+        int[] out = new int[us.length];
+        pool.invoke(new Batch(us, vs, 0, null, out, null, 0, us.length));
+        return out;
+    }
+
+    public boolean[] connectedWithin(int[] us, int[] vs, int threshold) {
+        return connectedWithin(us, vs, threshold, ForkJoinPool.commonPool());
+    }
+
+    public boolean[] connectedWithin(int[] us, int[] vs, int threshold, ForkJoinPool pool) {
+        if (us.length != vs.length) throw new IllegalArgumentException("us and vs differ in length");
+        boolean[] out = new boolean[us.length];
+        pool.invoke(new Batch(us, vs, threshold, null, null, out, 0, us.length));
+        return out;
+    }
+
+    // per-query thresholds
+    public boolean[] connectedWithin(int[] us, int[] vs, int[] thresholds, ForkJoinPool pool) {
+        if (us.length != vs.length || us.length != thresholds.length) throw new IllegalArgumentException("us, vs and thresholds differ in length");
+        boolean[] out = new boolean[us.length];
+        pool.invoke(new Batch(us, vs, 0, thresholds, null, out, 0, us.length));
+        return out;
+    }
+
+    private final class Batch extends RecursiveAction {
+        private final int[] us, vs, thresholds;
+        private final int threshold;
+        private final int[] weights;
+        private final boolean[] within;
+        private final int lo, hi;
+
+        Batch(int[] us, int[] vs, int threshold, int[] thresholds, int[] weights, boolean[] within, int lo, int hi) {
+            this.us = us;
+            this.vs = vs;
+            this.threshold = threshold;
+            this.thresholds = thresholds;
+            this.weights = weights;
+            this.within = within;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > MIN_CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Batch(us, vs, threshold, thresholds, weights, within, lo, mid),
+                        new Batch(us, vs, threshold, thresholds, weights, within, mid, hi));
+                return;
+            }
+            if (weights != null) {
+                for (int i = lo; i < hi; i++) weights[i] = bottleneck(us[i], vs[i]);
+            } else {
+                for (int i = lo; i < hi; i++)
+                    within[i] = connectedWithin(us[i], vs[i], thresholds == null ? threshold : thresholds[i]);
+            }
+        }
+    }
+
+    // --- helpers ---
+    private void check(int v) {
+        if (v < 0 || v >= vertexCount) throw new IllegalArgumentException("Vertex id out of range: " + v);
+    }
+
+    private static int[] ids(Graph g, Graph.MSTResult forest, boolean from) {
+        int[] ids = new int[forest.mstEdges.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Edge e = forest.mstEdges.get(i);
+            ids[i] = g.idOf(from ? e.getFrom() : e.getTo());
+        }
+        return ids;
+    }
+
+    private static int[] weights(Graph.MSTResult forest) {
+        int[] w = new int[forest.mstEdges.size()];
+        for (int i = 0; i < w.length; i++) w[i] = forest.mstEdges.get(i).getWeight();
+        return w;
+    }
+}
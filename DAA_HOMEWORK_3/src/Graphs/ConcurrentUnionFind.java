@@ -0,0 +1,48 @@
+package Graphs;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Lock-free disjoint sets for use from many threads at once.
+// Roots are always linked towards the smaller id, so concurrent unions can
+// never form a cycle; find() does best-effort path halving with CAS.
+public final class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) parent.set(v, v);
+    }
+
+    public int find(int v) {
+        while (true) {
+            int p = parent.get(v);
+            if (p == v) return v;
+            int gp = parent.get(p);
+            if (p != gp) parent.compareAndSet(v, p, gp); // losing the race is harmless
+            v = gp;
+        }
+    }
+
+    // returns false when a and b were already in the same set
+    public boolean union(int a, int b) {
+        while (true) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb) return false;
+            if (ra < rb) { int t = ra; ra = rb; rb = t; }
+            // ra (larger id) goes under rb; retry if ra stopped being a root meanwhile
+            if (parent.compareAndSet(ra, ra, rb)) return true;
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        while (true) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb) return true;
+            if (parent.get(ra) == ra) return false; // ra still a root: really disjoint
+        }
+    }
+
+    public int size() { return parent.length(); }
+}
@@ -0,0 +1,115 @@
+package Graphs;
+
+import java.nio.IntBuffer;
+
+// Compact integer graph: vertices are dense ids 0..n-1, every undirected edge is
+// stored once in parallel arrays and adjacency is kept in compressed sparse rows.
+// Arcs of vertex v live in [offsets[v], offsets[v + 1]) of targets/weights/arcEdge.
+// Storage is IntBuffer so the same code runs over heap arrays (IntBuffer.wrap)
+// and over memory-mapped files (BinaryGraphFormat) without copying.
+//
+// Graphs built from edge arrays get their rows on the first arc access only:
+// one counting pass plus one fill pass into flat arrays. Edge-list consumers
+// (kruskal(), filterKruskal(), the external and streaming engines) never pay for
+// adjacency. The rows are published through a holder with final fields, so
+// concurrent first traversals are safe and later accesses take no lock.
+public final class CsrGraph {
+    private final int vertexCount;
+    private final int edgeCount;
+
+    // edge list (one entry per undirected edge, input order)
+    private final IntBuffer edgeFrom;
+    private final IntBuffer edgeTo;
+    private final IntBuffer edgeWeight;
+
+    // CSR adjacency (two arcs per edge), null until first needed
+    private Arcs arcs;
+
+    private static final class Arcs {
+        final IntBuffer offsets;
+        final IntBuffer targets;
+        final IntBuffer weights;
+        final IntBuffer arcEdge;
+
+        Arcs(IntBuffer offsets, IntBuffer targets, IntBuffer weights, IntBuffer arcEdge) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.arcEdge = arcEdge;
+        }
+    }
+
+    // the arrays are wrapped, not copied; only the first edgeCount entries are used
+    public CsrGraph(int vertexCount, int[] edgeFrom, int[] edgeTo, int[] edgeWeight, int edgeCount) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.edgeFrom = IntBuffer.wrap(edgeFrom);
+        this.edgeTo = IntBuffer.wrap(edgeTo);
+        this.edgeWeight = IntBuffer.wrap(edgeWeight);
+    }
+
+    // wraps ready-made buffers (e.g. mapped file sections) as they are
+    CsrGraph(int vertexCount, int edgeCount, IntBuffer edgeFrom, IntBuffer edgeTo, IntBuffer edgeWeight,
+             IntBuffer offsets, IntBuffer targets, IntBuffer weights, IntBuffer arcEdge) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeWeight = edgeWeight;
+        this.arcs = new Arcs(offsets, targets, weights, arcEdge);
+    }
+
+    public int vertexCount() { return vertexCount; }
+    public int edgeCount() { return edgeCount; }
+    public int arcCount() { return arcs().offsets.get(vertexCount); }
+
+    public int edgeFrom(int e) { return edgeFrom.get(e); }
+    public int edgeTo(int e) { return edgeTo.get(e); }
+    public int edgeWeight(int e) { return edgeWeight.get(e); }
+
+    public int arcStart(int v) { return arcs().offsets.get(v); }
+    public int arcEnd(int v) { return arcs().offsets.get(v + 1); }
+    public int arcTarget(int a) { return arcs().targets.get(a); }
+    public int arcWeight(int a) { return arcs().weights.get(a); }
+    public int arcEdge(int a) { return arcs().arcEdge.get(a); }
+
+    // true once the CSR rows exist (always for mapped graphs)
+    public boolean hasAdjacency() { return arcs != null; }
+
+    private Arcs arcs() {
+        Arcs a = arcs;
+        return a != null ? a : buildArcs();
+    }
+
+    private synchronized Arcs buildArcs() {
+        if (arcs != null) return arcs;
+        // counting pass: degree of every vertex, then prefix sums into offsets
+        int[] off = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            off[edgeFrom.get(e) + 1]++;
+            off[edgeTo.get(e) + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) off[v + 1] += off[v];
+
+        // fill pass: arcs keep input edge order inside every row
+        int n = off[vertexCount];
+        int[] tgt = new int[n];
+        int[] wgt = new int[n];
+        int[] ids = new int[n];
+        int[] next = new int[vertexCount];
+        System.arraycopy(off, 0, next, 0, vertexCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int u = edgeFrom.get(e), v = edgeTo.get(e), w = edgeWeight.get(e);
+            int a = next[u]++;
+            tgt[a] = v;
+            wgt[a] = w;
+            ids[a] = e;
+            int b = next[v]++;
+            tgt[b] = u;
+            wgt[b] = w;
+            ids[b] = e;
+        }
+        arcs = new Arcs(IntBuffer.wrap(off), IntBuffer.wrap(tgt), IntBuffer.wrap(wgt), IntBuffer.wrap(ids));
+        return arcs;
+    }
+}
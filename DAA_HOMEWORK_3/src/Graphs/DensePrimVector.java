@@ -0,0 +1,65 @@
+package Graphs;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// The DensePrim row pass on jdk.incubator.vector: one row of the matrix and the
+// key array are read a vector at a time, lowered keys are blended in and their
+// parents written with a masked store, and every lane tracks its own smallest
+// key and the first index holding it. The lanes are reduced once per row, so
+// the vertex picked is the same one the scalar loop picks (first index on ties).
+// Needs --add-modules jdk.incubator.vector at compile and run time; DensePrim
+// only touches this class after checking that the module is present.
+final class DensePrimVector {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+
+    private static final int NO_EDGE = DensePrim.NO_EDGE;
+    private static final int DONE = DensePrim.DONE;
+
+    private DensePrimVector() { }
+
+    // same contract as DensePrim.relax: (keys lowered << 32) | (next vertex + 1)
+    static long relax(int[] matrix, int row, int n, int v, int[] key, int[] parent) {
+        IntVector minKey = IntVector.broadcast(SPECIES, NO_EDGE);
+        IntVector minIdx = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector lane = IntVector.zero(SPECIES).addIndex(1);
+        IntVector from = IntVector.broadcast(SPECIES, v);
+        long lowered = 0;
+        int j = 0;
+        for (int bound = SPECIES.loopBound(n); j < bound; j += LANES) {
+            IntVector k = IntVector.fromArray(SPECIES, key, j);
+            IntVector w = IntVector.fromArray(SPECIES, matrix, row + j);
+            VectorMask<Integer> lower = w.lt(k);          // never true for DONE
+            if (lower.anyTrue()) {
+                k = k.blend(w, lower);
+                k.intoArray(key, j);
+                from.intoArray(parent, j, lower);
+                lowered += lower.trueCount();
+            }
+            VectorMask<Integer> better = k.lt(minKey).andNot(k.eq(DONE));
+            minKey = minKey.blend(k, better);
+            minIdx = minIdx.blend(lane.add(j), better);
+        }
+        int bestKey = minKey.reduceLanes(VectorOperators.MIN);
+        int best = bestKey == NO_EDGE ? -1
+                : minIdx.blend(Integer.MAX_VALUE, minKey.compare(VectorOperators.NE, bestKey)).reduceLanes(VectorOperators.MIN);
+
+        // scalar tail; its indices come after every lane's, so ties still keep the first
+        for (; j < n; j++) {
+            int k = key[j], w = matrix[row + j];
+            if (w < k) {
+                key[j] = k = w;
+                parent[j] = v;
+                lowered++;
+            }
+            if (k < bestKey && k != DONE) {
+                bestKey = k;
+                best = j;
+            }
+        }
+        return lowered << 32 | (best + 1);
+    }
+}
@@ -0,0 +1,205 @@
+package Graphs;
+
+import java.util.Arrays;
+
+// Fully dynamic minimum spanning forest: IncrementalMST plus edge deletions and
+// weight increases. Removing a tree edge (or making it heavier) splits its tree
+// in two; the replacement is the lightest non-tree edge crossing that cut.
+// Both halves are walked at the same pace over the tree adjacency, so only the
+// smaller side gets enumerated, and the per-vertex index of non-tree edges
+// (the cut-edge index) is scanned for those vertices only. A tree-edge update
+// therefore costs O(smaller side + its non-tree degree) instead of a full
+// kruskal() run; everything else stays O(log n) amortized on the link-cut tree.
+// Deleted edge ids are retired and never reused.
+public class DynamicMST extends IncrementalMST {
+    private Incidence tree;
+    private Incidence nonTree;
+    private boolean[] deleted;
+
+    private int[] mark;          // side stamps for the cut walk
+    private int stamp;
+    private int[] queueA, queueB;
+
+    public DynamicMST(Graph graph, Graph.MSTResult seed) {
+        super(graph, seed);
+        tree = new Incidence();
+        nonTree = new Incidence();
+        deleted = new boolean[from.length];
+        for (int e = 0; e < edgeCount; e++) (inTree[e] ? tree : nonTree).add(e);
+        mark = new int[vertexCount];
+        queueA = new int[vertexCount];
+        queueB = new int[vertexCount];
+    }
+
+    // --- updates ---
+    public Update deleteEdge(int edge) {
+        checkEdge(edge);
+        long t0 = System.nanoTime();
+        Update u;
+        if (!inTree[edge]) {
+            nonTree.remove(edge);
+            deleted[edge] = true;
+            u = new Update(edge, -1, -1, totalCost);
+        } else {
+            removeTreeEdge(edge);
+            nonTree.remove(edge);
+            deleted[edge] = true;
+            int r = replacement(from[edge], to[edge]);
+            if (r >= 0) addTreeEdge(r);
+            u = new Update(edge, r, edge, totalCost);
+        }
+        finish(t0);
+        return u;
+    }
+
+    public Update increaseWeight(int edge, int newWeight) {
+        checkEdge(edge);
+        if (newWeight < weight[edge])
+            throw new IllegalArgumentException("New weight " + newWeight + " is smaller than " + weight[edge]);
+        long t0 = System.nanoTime();
+        Update u;
+        if (!inTree[edge]) {
+            // a non-tree edge only gets heavier: it still loses its cycle
+            weight[edge] = newWeight;
+            u = new Update(edge, -1, -1, totalCost);
+        } else {
+            // take it out, then let it compete with every other edge across the cut
+            removeTreeEdge(edge);
+            weight[edge] = newWeight;
+            int r = replacement(from[edge], to[edge]);
+            addTreeEdge(r);
+            u = r == edge ? new Update(edge, -1, -1, totalCost) : new Update(edge, r, edge, totalCost);
+        }
+        finish(t0);
+        return u;
+    }
+
+    public boolean isDeleted(int edge) {
+        if (edge < 0 || edge >= edgeCount) throw new IllegalArgumentException("Unknown edge id: " + edge);
+        return deleted[edge];
+    }
+
+    // --- replacement search ---
+    // lightest non-tree edge between the trees of a and b (just split apart), or -1
+    private int replacement(int a, int b) {
+        stamp += 2;
+        if (stamp < 0) { Arrays.fill(mark, 0); stamp = 2; }
+        int sideA = stamp, sideB = stamp + 1;
+
+        // alternate one expansion per side; the side that runs out first is the smaller one
+        int headA = 0, tailA = 0, headB = 0, tailB = 0;
+        queueA[tailA++] = a; mark[a] = sideA;
+        queueB[tailB++] = b; mark[b] = sideB;
+        int[] side;
+        int size, sideStamp;
+        while (true) {
+            if (headA == tailA) { side = queueA; size = tailA; sideStamp = sideA; break; }
+            tailA = expand(queueA[headA++], queueA, tailA, sideA);
+            if (headB == tailB) { side = queueB; size = tailB; sideStamp = sideB; break; }
+            tailB = expand(queueB[headB++], queueB, tailB, sideB);
+        }
+
+        int best = -1;
+        long bestKey = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int v = side[i];
+            for (int k = 0, n = nonTree.size[v]; k < n; k++) {
+                int f = nonTree.list[v][k];
+                int other = from[f] == v ? to[f] : from[f];
+                if (mark[other] == sideStamp) continue;   // both ends on this side (or a self loop)
+                long key = key(f);
+                if (key < bestKey) { bestKey = key; best = f; }
+            }
+        }
+        return best;
+    }
+
+    private int expand(int v, int[] queue, int tail, int sideStamp) {
+        for (int k = 0, n = tree.size[v]; k < n; k++) {
+            int e = tree.list[v][k];
+            int w = from[e] == v ? to[e] : from[e];
+            if (mark[w] != sideStamp) {
+                mark[w] = sideStamp;
+                queue[tail++] = w;
+            }
+        }
+        return tail;
+    }
+
+    // --- index maintenance (hooks called by IncrementalMST) ---
+    @Override
+    void addTreeEdge(int e) {
+        super.addTreeEdge(e);
+        nonTree.remove(e);
+        tree.add(e);
+    }
+
+    @Override
+    void removeTreeEdge(int e) {
+        super.removeTreeEdge(e);
+        tree.remove(e);
+        nonTree.add(e);
+    }
+
+    @Override
+    int newEdge(int u, int v, int w) {
+        int e = super.newEdge(u, v, w);
+        if (deleted.length < from.length) deleted = Arrays.copyOf(deleted, from.length);
+        nonTree.add(e);
+        return e;
+    }
+
+    @Override
+    void checkEdge(int edge) {
+        super.checkEdge(edge);
+        if (deleted[edge]) throw new IllegalArgumentException("Edge " + edge + " was deleted");
+    }
+
+    // per-vertex edge lists with O(1) add/remove: every edge remembers its slot at both endpoints
+    private final class Incidence {
+        int[][] list = new int[vertexCount][];
+        int[] size = new int[vertexCount];
+        int[] slotFrom = new int[0], slotTo = new int[0];
+        boolean[] present = new boolean[0];
+
+        void add(int e) {
+            if (e >= present.length) {
+                int cap = Math.max(from.length, e + 1);
+                slotFrom = Arrays.copyOf(slotFrom, cap);
+                slotTo = Arrays.copyOf(slotTo, cap);
+                present = Arrays.copyOf(present, cap);
+            }
+            if (present[e]) return;
+            present[e] = true;
+            slotFrom[e] = push(from[e], e);
+            slotTo[e] = push(to[e], e);
+        }
+
+        void remove(int e) {
+            if (e >= present.length || !present[e]) return;
+            present[e] = false;
+            // remove the higher slot first so a self loop's second slot stays valid
+            int a = slotFrom[e], b = slotTo[e];
+            if (from[e] == to[e] && a < b) { pop(to[e], b); pop(from[e], a); }
+            else { pop(from[e], a); pop(to[e], b); }
+        }
+
+        private int push(int v, int e) {
+            int[] l = list[v];
+            if (l == null) l = list[v] = new int[4];
+            else if (size[v] == l.length) l = list[v] = Arrays.copyOf(l, l.length * 2);
+            l[size[v]] = e;
+            return size[v]++;
+        }
+
+        // swap-remove slot p of vertex v and repoint the edge that moved into it
+        private void pop(int v, int p) {
+            int last = --size[v];
+            if (p == last) return;
+            int moved = list[v][last];
+            list[v][p] = moved;
+            if (from[moved] == v && slotFrom[moved] == last) slotFrom[moved] = p;
+            else slotTo[moved] = p;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package Graphs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Out-of-core Kruskal for edge sets larger than the heap. Edges are added one
+// at a time into a fixed buffer of runEdges edges; a full buffer is radix-sorted
+// and spilled to a temp file as one sorted run. finish() merges all runs in a
+// single streaming k-way pass and feeds the union-find as edges come out, so
+// only the O(V) union-find, the tree and one read buffer per run stay resident.
+//
+// Run records are 12 bytes (weight, from, to). Ties keep insertion order: a
+// run is stably sorted and earlier runs win equal weights in the merge, which
+// is the same (weight, input order) tie-break as kruskal().
+public final class ExternalKruskal implements Closeable {
+    public static final int DEFAULT_RUN_EDGES = 1 << 22;
+    private static final int RECORD = 12;
+    private static final int WRITE_BUFFER = 1 << 20;
+    private static final int MERGE_MEMORY = 64 << 20;   // read buffers, split over all runs
+
+    private final int vertexCount;
+    private final Path tempDir;
+    private final int[] from, to, weight;
+    private int buffered;
+    private long edgeCount;
+    private final List<Path> runs = new ArrayList<>();
+    private long spillNanos;
+
+    // tempDir null: run files go to the default temp directory (java.io.tmpdir)
+    public ExternalKruskal(int vertexCount, Path tempDir, int runEdges) {
+        if (vertexCount < 0 || runEdges < 1) throw new IllegalArgumentException("vertexCount >= 0 and runEdges >= 1 required");
+        this.vertexCount = vertexCount;
+        this.tempDir = tempDir;
+        from = new int[runEdges];
+        to = new int[runEdges];
+        weight = new int[runEdges];
+    }
+
+    public void add(int u, int v, int w) throws IOException {
+        if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount)
+            throw new IllegalArgumentException("Vertex id out of range: " + u + "-" + v);
+        if (buffered == from.length) spill();
+        from[buffered] = u;
+        to[buffered] = v;
+        weight[buffered] = w;
+        buffered++;
+        edgeCount++;
+    }
+
+    public long edgeCount() { return edgeCount; }
+    public int runCount() { return runs.size() + (buffered > 0 ? 1 : 0); }
+
+    // Merges every run and returns the minimum spanning forest; names maps vertex ids for the Edge view.
+    // timeMs covers spilling and merging; operations counts merged edges plus unions.
+    public Graph.MSTResult finish(IntFunction<String> names) throws IOException {
+        long t0 = System.nanoTime();
+        if (buffered > 0) spill();
+        Graph.MSTResult res = new Graph.MSTResult();
+        UnionFind uf = new UnionFind(vertexCount);
+        long ops = 0;
+
+        int k = runs.size();
+        Run[] open = new Run[k];
+        int bufferBytes = Math.max(RECORD * 1024, (MERGE_MEMORY / Math.max(1, k)) / RECORD * RECORD);
+        try {
+            // min-heap of runs keyed by (head weight, run index)
+            int[] heap = new int[k];
+            long[] key = new long[k];
+            int size = 0;
+            for (int r = 0; r < k; r++) {
+                open[r] = new Run(runs.get(r), bufferBytes);
+                if (open[r].next()) {
+                    key[r] = ((long) open[r].weight << 32) | r;
+                    heap[size] = r;
+                    siftUp(heap, key, size++);
+                }
+            }
+            while (size > 0 && res.mstEdges.size() < vertexCount - 1) {
+                int r = heap[0];
+                Run run = open[r];
+                ops++;
+                if (uf.union(run.from, run.to)) {
+                    res.mstEdges.add(new Edge(names.apply(run.from), names.apply(run.to), run.weight));
+                    res.totalCost += run.weight;
+                    ops++;
+                }
+                if (run.next()) {
+                    key[r] = ((long) run.weight << 32) | r;
+                } else {
+                    heap[0] = heap[--size];
+                }
+                if (size > 0) siftDown(heap, key, size);
+            }
+        } finally {
+            for (Run run : open) if (run != null) run.close();
+            close();
+        }
+        res.operations = ops;
+        res.timeMs = (System.nanoTime() - t0 + spillNanos) / 1_000_000.0;
+        res.ufFinds = uf.finds();
+        res.ufUnions = uf.unions();
+        res.ufPathLength = uf.pathLength();
+        return res;
+    }
+
+    // streams the edges of g (e.g. a mapped binary graph) through the external path
+    public static Graph.MSTResult run(Graph g, Path tempDir, int runEdges) throws IOException {
+        CsrGraph csr = g.getCsr();
+        try (ExternalKruskal ek = new ExternalKruskal(csr.vertexCount(), tempDir, runEdges)) {
+            for (int e = 0; e < csr.edgeCount(); e++) ek.add(csr.edgeFrom(e), csr.edgeTo(e), csr.edgeWeight(e));
+            return ek.finish(g::nameOf);
+        }
+    }
+
+    // deletes every run file; safe to call more than once
+    @Override
+    public void close() throws IOException {
+        IOException first = null;
+        for (Path p : runs) {
+            try {
+                Files.deleteIfExists(p);
+            } catch (IOException ex) {
+                if (first == null) first = ex;
+            }
+        }
+        runs.clear();
+        buffered = 0;
+        if (first != null) throw first;
+    }
+
+    // --- spilling ---
+    private void spill() throws IOException {
+        long t0 = System.nanoTime();
+        int[] order = RadixSort.order(weight, buffered);
+        Path file = tempDir == null ? Files.createTempFile("kruskal-run-", ".bin")
+                                    : Files.createTempFile(tempDir, "kruskal-run-", ".bin");
+        runs.add(file);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(WRITE_BUFFER / RECORD * RECORD);
+            for (int i : order) {
+                if (buf.remaining() < RECORD) drain(ch, buf);
+                buf.putInt(weight[i]).putInt(from[i]).putInt(to[i]);
+            }
+            drain(ch, buf);
+        }
+        buffered = 0;
+        spillNanos += System.nanoTime() - t0;
+    }
+
+    private static void drain(FileChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+    }
+
+    // --- merge heap ---
+    private static void siftUp(int[] heap, long[] key, int i) {
+        int r = heap[i];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (key[heap[p]] <= key[r]) break;
+            heap[i] = heap[p];
+            i = p;
+        }
+        heap[i] = r;
+    }
+
+    private static void siftDown(int[] heap, long[] key, int size) {
+        int r = heap[0], i = 0;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= size) break;
+            if (c + 1 < size && key[heap[c + 1]] < key[heap[c]]) c++;
+            if (key[r] <= key[heap[c]]) break;
+            heap[i] = heap[c];
+            i = c;
+        }
+        heap[i] = r;
+    }
+
+    // sequential reader over one sorted run
+    private static final class Run implements Closeable {
+        private final FileChannel ch;
+        private final ByteBuffer buf;
+        int weight, from, to;
+
+        Run(Path file, int bufferBytes) throws IOException {
+            ch = FileChannel.open(file, StandardOpenOption.READ);
+            buf = ByteBuffer.allocateDirect(bufferBytes);
+            buf.flip();
+        }
+
+        boolean next() throws IOException {
+            if (buf.remaining() < RECORD) {
+                buf.compact();
+                while (buf.hasRemaining() && ch.read(buf) > 0) { }
+                buf.flip();
+                if (buf.remaining() < RECORD) return false;
+            }
+            weight = buf.getInt();
+            from = buf.getInt();
+            to = buf.getInt();
+            return true;
+        }
+
+        @Override public void close() throws IOException { ch.close(); }
+    }
+
+    // usage: ExternalKruskal <graph.mstg> [runEdges] [tempDir]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: ExternalKruskal <graph.mstg> [runEdges] [tempDir]");
+            return;
+        }
+        Graph g = BinaryGraphFormat.map(Paths.get(args[0]));
+        int runEdges = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_EDGES;
+        Path tmp = Paths.get(args.length > 2 ? args[2] : System.getProperty("java.io.tmpdir"));
+        Graph.MSTResult r = run(g, tmp, runEdges);
+        System.out.printf("MST: %d edges, total cost %d, %.1f ms%n", r.mstEdges.size(), r.totalCost, r.timeMs);
+    }
+}
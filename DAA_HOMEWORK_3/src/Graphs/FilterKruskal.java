@@ -0,0 +1,204 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Filter-Kruskal (Osipov, Sanders, Singler): quicksort-style recursion over the
+// packed (weight, edge id) keys. The light half is solved first; afterwards
+// every heavy edge whose endpoints are already connected is filtered out before
+// the heavy half is partitioned or sorted, so sorting work tracks only the edges
+// that can still enter the tree. Large partitions and filters run in parallel.
+// Recursion is capped at about 2 log2(E) levels, as in introsort: a range that
+// hits the cap, or whose partition leaves one side empty, is sorted and scanned
+// like a base case, so adversarial key orders cost O(E log E), not O(E) depth.
+final class FilterKruskal {
+    private static final int BASE_CASE = 1 << 12;        // sort + scan below this size
+    private static final int PARALLEL_CUTOFF = 1 << 16;  // partition sequentially below this size
+    private static final int CHUNK = 1 << 14;
+
+    private static final int PARTITION = 0;
+    private static final int FILTER = 1;
+
+    private final CsrGraph g;
+    private final ForkJoinPool pool;
+    private final UnionFind uf;
+    private final long[] keys;
+    private final long[] scratch;
+    private final int[] mstIds;
+    private final int maxDepth;
+    private int mstCount;
+    private long work;   // elements touched by partition/filter/scan
+    int fallbacks;       // ranges sorted early because of the depth cap or a one-sided partition
+
+    FilterKruskal(CsrGraph g, ForkJoinPool pool) {
+        this(g, pool, 2 * (32 - Integer.numberOfLeadingZeros(g.edgeCount())));
+    }
+
+    FilterKruskal(CsrGraph g, ForkJoinPool pool, int maxDepth) {
+        this.g = g;
+        this.pool = pool;
+        this.maxDepth = maxDepth;
+        int m = g.edgeCount();
+        uf = new UnionFind(g.vertexCount());
+        keys = new long[m];
+        for (int e = 0; e < m; e++) keys[e] = key(e);
+        scratch = new long[m];
+        mstIds = new int[Math.max(0, g.vertexCount() - 1)];
+    }
+
+    Graph.MSTResult run(Graph owner) {
+        Graph.MSTResult res = new Graph.MSTResult();
+        solve(0, keys.length, maxDepth);
+        for (int i = 0; i < mstCount; i++) {
+            res.mstEdges.add(owner.edge(mstIds[i]));
+            res.totalCost += g.edgeWeight(mstIds[i]);
+        }
+        res.operations = work + mstCount;
+        res.ufFinds = uf.finds();
+        res.ufUnions = uf.unions();
+        res.ufPathLength = uf.pathLength();
+        return res;
+    }
+
+    private long key(int e) { return ((long) g.edgeWeight(e) << 32) | e; }
+
+    private boolean done() { return mstCount == mstIds.length; }
+
+    private void solve(int lo, int hi, int depth) {
+        if (hi - lo <= BASE_CASE) {
+            sortAndScan(lo, hi);
+            return;
+        }
+        if (depth == 0) {
+            fallbacks++;
+            sortAndScan(lo, hi);
+            return;
+        }
+        long pivot = pivot(lo, hi);
+        int mid = split(PARTITION, pivot, lo, hi);   // [lo, mid) <= pivot < [mid, hi)
+        if (mid == lo || mid == hi) {                // one side empty: recursing would not shrink the range
+            fallbacks++;
+            sortAndScan(lo, hi);
+            return;
+        }
+        solve(lo, mid, depth - 1);
+        if (done()) return;
+        int end = split(FILTER, 0, mid, hi);         // [mid, end) still cross components
+        solve(mid, end, depth - 1);
+    }
+
+    private void sortAndScan(int lo, int hi) {
+        Arrays.sort(keys, lo, hi);
+        for (int i = lo; i < hi && !done(); i++) {
+            int e = (int) keys[i];
+            work++;
+            if (uf.union(g.edgeFrom(e), g.edgeTo(e))) mstIds[mstCount++] = e;
+        }
+    }
+
+    // median of three spread samples; keys are unique so both sides are non-empty
+    private long pivot(int lo, int hi) {
+        long a = keys[lo], b = keys[(lo + hi) >>> 1], c = keys[hi - 1];
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private boolean keep(int mode, long k, long pivot) {
+        if (mode == PARTITION) return k <= pivot;
+        int e = (int) k;
+        return uf.root(g.edgeFrom(e)) != uf.root(g.edgeTo(e));
+    }
+
+    // Moves the elements of [lo, hi) that satisfy keep() to the front, preserving
+    // nothing about order. PARTITION keeps the rest behind them, FILTER drops it.
+    // Returns the end of the kept prefix.
+    private int split(int mode, long pivot, int lo, int hi) {
+        work += hi - lo;
+        if (hi - lo < PARALLEL_CUTOFF) {
+            int k = lo;
+            if (mode == PARTITION) {
+                int r = hi;
+                for (int i = lo; i < hi; i++) {
+                    long v = keys[i];
+                    if (v <= pivot) scratch[k++] = v; else scratch[--r] = v;
+                }
+            } else {
+                for (int i = lo; i < hi; i++) if (keep(mode, keys[i], pivot)) scratch[k++] = keys[i];
+            }
+            int len = mode == PARTITION ? hi - lo : k - lo;
+            System.arraycopy(scratch, lo, keys, lo, len);
+            return k;
+        }
+
+        // parallel: count per chunk, prefix sums, then scatter into scratch
+        int chunks = (hi - lo + CHUNK - 1) / CHUNK;
+        int[] kept = new int[chunks];
+        pool.invoke(new Count(mode, pivot, lo, hi, kept, 0, chunks));
+        int[] keptAt = new int[chunks];
+        int[] restAt = new int[chunks];
+        int total = 0;
+        for (int c = 0; c < chunks; c++) { keptAt[c] = lo + total; total += kept[c]; }
+        int rest = lo + total;
+        for (int c = 0; c < chunks; c++) {
+            restAt[c] = rest;
+            rest += Math.min(CHUNK, hi - lo - c * CHUNK) - kept[c];
+        }
+        pool.invoke(new Scatter(mode, pivot, lo, hi, keptAt, restAt, 0, chunks));
+        int len = mode == PARTITION ? hi - lo : total;
+        System.arraycopy(scratch, lo, keys, lo, len);
+        return lo + total;
+    }
+
+    private final class Count extends RecursiveAction {
+        private final int mode, lo, hi, cLo, cHi;
+        private final long pivot;
+        private final int[] kept;
+
+        Count(int mode, long pivot, int lo, int hi, int[] kept, int cLo, int cHi) {
+            this.mode = mode; this.pivot = pivot; this.lo = lo; this.hi = hi;
+            this.kept = kept; this.cLo = cLo; this.cHi = cHi;
+        }
+
+        @Override
+        protected void compute() {
+            if (cHi - cLo > 1) {
+                int mid = (cLo + cHi) >>> 1;
+                invokeAll(new Count(mode, pivot, lo, hi, kept, cLo, mid),
+                          new Count(mode, pivot, lo, hi, kept, mid, cHi));
+                return;
+            }
+            int from = lo + cLo * CHUNK, to = Math.min(hi, from + CHUNK);
+            int k = 0;
+            for (int i = from; i < to; i++) if (keep(mode, keys[i], pivot)) k++;
+            kept[cLo] = k;
+        }
+    }
+
+    private final class Scatter extends RecursiveAction {
+        private final int mode, lo, hi, cLo, cHi;
+        private final long pivot;
+        private final int[] keptAt, restAt;
+
+        Scatter(int mode, long pivot, int lo, int hi, int[] keptAt, int[] restAt, int cLo, int cHi) {
+            this.mode = mode; this.pivot = pivot; this.lo = lo; this.hi = hi;
+            this.keptAt = keptAt; this.restAt = restAt; this.cLo = cLo; this.cHi = cHi;
+        }
+
+        @Override
+        protected void compute() {
+            if (cHi - cLo > 1) {
+                int mid = (cLo + cHi) >>> 1;
+                invokeAll(new Scatter(mode, pivot, lo, hi, keptAt, restAt, cLo, mid),
+                          new Scatter(mode, pivot, lo, hi, keptAt, restAt, mid, cHi));
+                return;
+            }
+            int from = lo + cLo * CHUNK, to = Math.min(hi, from + CHUNK);
+            int k = keptAt[cLo], r = restAt[cLo];
+            for (int i = from; i < to; i++) {
+                long v = keys[i];
+                if (keep(mode, v, pivot)) scratch[k++] = v;
+                else if (mode == PARTITION) scratch[r++] = v;
+            }
+        }
+    }
+}
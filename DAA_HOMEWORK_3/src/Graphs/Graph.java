@@ -1,110 +1,560 @@
 package Graphs;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class Graph {
-    private final List<String> nodes;
-    private final List<Edge> edges;
-    private final Map<String, List<Edge>> adjacency;
+    private String[] names;                       // vertex id -> name
+    private Map<String, Integer> ids;             // name -> vertex id (interned once)
+    private final BinaryGraphFormat.NameTable nameTable; // mapped graphs: names decoded on first use
+    private final CsrGraph csr;
+    private List<String> nodeView;
+    private List<Edge> edgeView;
+    private Map<String, List<Edge>> adjacency;
+    private GraphHash contentHash;
 
+    // a repeated node name keeps its first id, as in GraphBuilder
     public Graph(List<String> nodes, List<Edge> edges) {
-        this.nodes = new ArrayList<>(nodes);
-        this.edges = new ArrayList<>(edges);
-        this.adjacency = new HashMap<>();
-        for (String n : nodes) adjacency.put(n, new ArrayList<>());
-        for (Edge e : edges) {
-            adjacency.get(e.getFrom()).add(e);
-            adjacency.get(e.getTo()).add(new Edge(e.getTo(), e.getFrom(), e.getWeight())); // store reverse for traversal
+        String[] names = new String[nodes.size()];
+        Map<String, Integer> ids = new HashMap<>(names.length * 2);
+        int n = 0;
+        for (String name : nodes) {
+            if (ids.putIfAbsent(name, n) == null) names[n++] = name;
         }
+        this.names = n == names.length ? names : Arrays.copyOf(names, n);
+        this.ids = ids;
+        int m = edges.size();
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+        for (int i = 0; i < m; i++) {
+            Edge e = edges.get(i);
+            from[i] = lookup(ids, e.getFrom());
+            to[i] = lookup(ids, e.getTo());
+            weight[i] = e.getWeight();
+        }
+        this.nameTable = null;
+        this.csr = new CsrGraph(n, from, to, weight, m);
+    }
+
+    // used by GraphBuilder: names and ids are already interned
+    Graph(String[] names, Map<String, Integer> ids, CsrGraph csr) {
+        this(names, ids, csr, null);
+    }
+
+    // contentHash may be null; it is then computed on first use
+    Graph(String[] names, Map<String, Integer> ids, CsrGraph csr, GraphHash contentHash) {
+        this.names = names;
+        this.ids = ids;
+        this.nameTable = null;
+        this.csr = csr;
+        this.contentHash = contentHash;
+    }
+
+    // used by BinaryGraphFormat: CSR over mapped buffers, names stay in the file until needed
+    Graph(BinaryGraphFormat.NameTable nameTable, CsrGraph csr) {
+        this.nameTable = nameTable;
+        this.csr = csr;
+    }
+
+    private String[] names() {
+        if (names == null) names = nameTable.decodeAll();
+        return names;
+    }
+
+    // lazy read-only views: Edge objects are created on access only
+    public List<String> getNodes() {
+        if (nodeView == null) nodeView = Collections.unmodifiableList(Arrays.asList(names()));
+        return nodeView;
+    }
+
+    public List<Edge> getEdges() {
+        if (edgeView == null) {
+            edgeView = new AbstractList<Edge>() {
+                @Override public Edge get(int i) { return edge(i); }
+                @Override public int size() { return csr.edgeCount(); }
+            };
+        }
+        return edgeView;
+    }
+
+    // materialized on first call, kept for callers that still want the map form
+    public Map<String, List<Edge>> getAdjacency() {
+        if (adjacency == null) {
+            String[] names = names();
+            Map<String, List<Edge>> adj = new HashMap<>(names.length * 2);
+            for (int v = 0; v < names.length; v++) {
+                List<Edge> out = new ArrayList<>(csr.arcEnd(v) - csr.arcStart(v));
+                for (int a = csr.arcStart(v); a < csr.arcEnd(v); a++)
+                    out.add(new Edge(names[v], names[csr.arcTarget(a)], csr.arcWeight(a)));
+                adj.put(names[v], out);
+            }
+            adjacency = Collections.unmodifiableMap(adj);
+        }
+        return adjacency;
+    }
+
+    public CsrGraph getCsr() { return csr; }
+
+    // builder-made graphs carry the hash computed while parsing; others hash on first call
+    public GraphHash contentHash() {
+        if (contentHash == null) contentHash = GraphHash.of(this);
+        return contentHash;
+    }
+
+    public int vertexCount() { return csr.vertexCount(); }
+    public int edgeCount() { return csr.edgeCount(); }
+    public String nameOf(int v) { return names()[v]; }
+
+    public int idOf(String name) {
+        if (ids == null) {
+            String[] names = names();
+            Map<String, Integer> m = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) m.put(names[i], i);
+            ids = m;
+        }
+        return lookup(ids, name);
     }
 
-    public List<String> getNodes() { return nodes; }
-    public List<Edge> getEdges() { return edges; }
-    public Map<String, List<Edge>> getAdjacency() { return adjacency; }
+    private static int lookup(Map<String, Integer> ids, String name) {
+        Integer id = ids.get(name);
+        if (id == null) throw new IllegalArgumentException("Unknown vertex: " + name);
+        return id;
+    }
+
+    Edge edge(int e) {
+        String[] names = names();
+        return new Edge(names[csr.edgeFrom(e)], names[csr.edgeTo(e)], csr.edgeWeight(e));
+    }
 
     // --- Prim algorithm (returns MST edges list) ---
     public MSTResult prim() {
+        long a0 = Allocations.currentThreadBytes();
+        long c0 = System.nanoTime();
         MSTResult res = new MSTResult();
-        if (nodes.isEmpty()) return res;
+        MstMetrics mm = res.metrics;
+        int n = csr.vertexCount();
+        if (n == 0) return res;
+        mm.buildNanos = ensureAdjacency();
 
-        Set<String> visited = new HashSet<>();
+        boolean[] visited = new boolean[n];
+        int[] treeFrom = new int[n - 1], treeTo = new int[n - 1], treeWeight = new int[n - 1];
+        int size = 0, visitedCount = 1;
+        long cost = 0, pops = 0, stale = 0;
         PriorityQueue<PEdge> pq = new PriorityQueue<>();
-        String start = nodes.get(0);
-        visited.add(start);
-        for (Edge e : adjacency.get(start)) pq.add(new PEdge(e.getFrom(), e.getTo(), e.getWeight()));
+        int start = 0;
+        visited[start] = true;
+        int startArcs = csr.arcEnd(start) - csr.arcStart(start);
+        for (int a = csr.arcStart(start); a < csr.arcEnd(start); a++)
+            pq.add(new PEdge(start, csr.arcTarget(a), csr.arcWeight(a)));
+        long pushes = startArcs, scanned = startArcs;
 
         long t0 = System.nanoTime();
-        while (!pq.isEmpty() && visited.size() < nodes.size()) {
+        while (!pq.isEmpty() && visitedCount < n) {
             PEdge pe = pq.poll();
-            res.operations++;
-            if (visited.contains(pe.to)) continue;
-            visited.add(pe.to);
-            Edge chosen = new Edge(pe.from, pe.to, pe.weight);
-            res.mstEdges.add(chosen);
-            res.totalCost += pe.weight;
-
-            for (Edge out : adjacency.get(pe.to)) {
-                if (!visited.contains(out.getTo())) {
-                    pq.add(new PEdge(out.getFrom(), out.getTo(), out.getWeight()));
-                    res.operations++;
+            pops++;
+            if (visited[pe.to]) { stale++; continue; }
+            visited[pe.to] = true;
+            visitedCount++;
+            treeFrom[size] = pe.from;
+            treeTo[size] = pe.to;
+            treeWeight[size++] = pe.weight;
+            cost += pe.weight;
+
+            for (int a = csr.arcStart(pe.to); a < csr.arcEnd(pe.to); a++) {
+                int t = csr.arcTarget(a);
+                scanned++;
+                if (!visited[t]) {
+                    pq.add(new PEdge(pe.to, t, csr.arcWeight(a)));
+                    pushes++;
                 }
             }
         }
         long t1 = System.nanoTime();
-        res.timeMs = (t1 - t0) / 1_000_000.0;
+        String[] names = names();
+        res.mstEdges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) res.mstEdges.add(new Edge(names[treeFrom[i]], names[treeTo[i]], treeWeight[i]));
+        long t2 = System.nanoTime();
+
+        res.totalCost = (int) cost;
+        res.operations = pops + pushes - startArcs;
+        res.timeMs = (t2 - c0) / 1_000_000.0;
+        mm.heapNanos = t1 - t0;
+        mm.assemblyNanos = t2 - t1;
+        mm.heapPushes = pushes;
+        mm.heapPops = pops;
+        mm.stalePops = stale;
+        mm.edgesScanned = scanned;
+        res.allocatedBytes = allocatedSince(a0);
+        return publish(res, "prim");
+    }
+
+    // --- Eager Prim: indexed d-ary heap with decrease-key, at most V entries ---
+    public MSTResult primEager() { return primEager(IndexedDaryHeap.DEFAULT_ARITY); }
+
+    public MSTResult primEager(int arity) {
+        long a0 = Allocations.currentThreadBytes();
+        long c0 = System.nanoTime();
+        MSTResult res = new MSTResult();
+        MstMetrics mm = res.metrics;
+        int n = csr.vertexCount();
+        if (n == 0) return res;
+        mm.buildNanos = ensureAdjacency();
+
+        boolean[] inTree = new boolean[n];
+        int[] parent = new int[n];   // tree neighbour that currently offers the best key
+        int[] treeFrom = new int[n - 1], treeTo = new int[n - 1], treeWeight = new int[n - 1];
+        int size = 0;
+        long cost = 0, pushes = 1, pops = 0, decreases = 0, scanned = 0;
+        IndexedDaryHeap heap = new IndexedDaryHeap(n, arity);
+
+        long t0 = System.nanoTime();
+        heap.insert(0, 0);
+        parent[0] = -1;
+        while (!heap.isEmpty()) {
+            int key = heap.minKey();
+            int v = heap.pollMin();
+            pops++;
+            inTree[v] = true;
+            if (parent[v] >= 0) {
+                treeFrom[size] = parent[v];
+                treeTo[size] = v;
+                treeWeight[size++] = key;
+                cost += key;
+            }
+            scanned += csr.arcEnd(v) - csr.arcStart(v);
+            for (int a = csr.arcStart(v); a < csr.arcEnd(v); a++) {
+                int t = csr.arcTarget(a);
+                if (inTree[t]) continue;
+                int w = csr.arcWeight(a);
+                if (!heap.contains(t)) {
+                    heap.insert(t, w);
+                    pushes++;
+                } else if (w < heap.keyOf(t)) {
+                    heap.decreaseKey(t, w);
+                    decreases++;
+                } else {
+                    continue;
+                }
+                parent[t] = v;
+            }
+        }
+        long t1 = System.nanoTime();
+        String[] names = names();
+        res.mstEdges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) res.mstEdges.add(new Edge(names[treeFrom[i]], names[treeTo[i]], treeWeight[i]));
+        long t2 = System.nanoTime();
+
+        res.totalCost = (int) cost;
+        res.operations = pops + pushes - 1 + decreases;
+        res.timeMs = (t2 - c0) / 1_000_000.0;
+        mm.heapNanos = t1 - t0;
+        mm.assemblyNanos = t2 - t1;
+        mm.heapPushes = pushes;
+        mm.heapPops = pops;
+        mm.decreaseKeys = decreases;
+        mm.edgesScanned = scanned;
+        res.allocatedBytes = allocatedSince(a0);
+        return publish(res, "primEager");
+    }
+
+    // --- Dense Prim: O(V^2) scans over a weight matrix, for near-complete graphs ---
+    public MSTResult primDense() {
+        long a0 = Allocations.currentThreadBytes();
+        MSTResult res = new MSTResult();
+        MstMetrics mm = res.metrics;
+        int n = csr.vertexCount();
+        if (n == 0) return res;
+        long b0 = System.nanoTime();
+        DensePrim dp = DensePrim.of(csr);
+        long t0 = System.nanoTime();
+        int size = dp.run();
+        long t1 = System.nanoTime();
+        String[] names = names();
+        int[] from = dp.treeFrom(), to = dp.treeTo(), weight = dp.treeWeights();
+        res.mstEdges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) res.mstEdges.add(new Edge(names[from[i]], names[to[i]], weight[i]));
+        long t2 = System.nanoTime();
+
+        res.totalCost = (int) dp.treeCost();
+        res.operations = dp.scanned() + dp.decreases();
+        res.timeMs = (t2 - b0) / 1_000_000.0;
+        mm.buildNanos = t0 - b0;
+        mm.heapNanos = t1 - t0;
+        mm.assemblyNanos = t2 - t1;
+        mm.edgesScanned = dp.scanned();
+        mm.decreaseKeys = dp.decreases();
+        res.allocatedBytes = allocatedSince(a0);
+        return publish(res, "primDense");
+    }
+
+    // --- Allocation-free Prim / Kruskal: tree edge ids + weights land in the workspace ---
+    // Once ws has grown to the graph's size these allocate nothing; prim(ws)/kruskal(ws)
+    // wrap them into an MSTResult whose allocatedBytes covers the Into call only.
+    // ws.metrics() holds the run's phase timers and counters.
+    public int primInto(MstWorkspace ws) {
+        int n = csr.vertexCount();
+        ws.ensurePrim(n);
+        if (n == 0) return 0;
+        MstMetrics mm = ws.metrics;
+        mm.buildNanos = ensureAdjacency();
+        long t0 = System.nanoTime();
+        ws.resetPrim();
+        int[] best = ws.bestEdge;
+        int[] treeEdge = ws.treeEdge, treeWeight = ws.treeWeight;
+        IndexedDaryHeap heap = ws.heap;
+
+        int size = 0;
+        long cost = 0, pushes = 1, pops = 0, decreases = 0, scanned = 0;
+        heap.insert(0, 0);
+        best[0] = -1;
+        while (!heap.isEmpty()) {
+            int key = heap.minKey();
+            int v = heap.pollMin();
+            pops++;
+            ws.visit(v);
+            if (best[v] >= 0) {
+                treeEdge[size] = best[v];
+                treeWeight[size++] = key;
+                cost += key;
+            }
+            scanned += csr.arcEnd(v) - csr.arcStart(v);
+            for (int a = csr.arcStart(v); a < csr.arcEnd(v); a++) {
+                int t = csr.arcTarget(a);
+                if (ws.isVisited(t)) continue;
+                int w = csr.arcWeight(a);
+                if (!heap.contains(t)) {
+                    heap.insert(t, w);
+                    pushes++;
+                } else if (w < heap.keyOf(t)) {
+                    heap.decreaseKey(t, w);
+                    decreases++;
+                } else {
+                    continue;
+                }
+                best[t] = csr.arcEdge(a);
+            }
+        }
+        ws.treeSize = size;
+        ws.treeCost = cost;
+        ws.operations = pops + pushes - 1 + decreases;
+        mm.heapNanos = System.nanoTime() - t0;
+        mm.heapPushes = pushes;
+        mm.heapPops = pops;
+        mm.decreaseKeys = decreases;
+        mm.edgesScanned = scanned;
+        return size;
+    }
+
+    public int kruskalInto(MstWorkspace ws) {
+        int n = csr.vertexCount();
+        int m = csr.edgeCount();
+        ws.ensureKruskal(n, m);
+        MstMetrics mm = ws.metrics;
+        long t0 = System.nanoTime();
+        long[] keys = ws.keys;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int e = 0; e < m; e++) {
+            int w = csr.edgeWeight(e);
+            if (w < min) min = w;
+            if (w > max) max = w;
+        }
+        for (int e = 0; e < m; e++) keys[e] = ((long) csr.edgeWeight(e) - min) << 32 | e;
+        int bits = m == 0 ? 0 : 64 - Long.numberOfLeadingZeros((long) max - min);
+        RadixSort.sortHigh(keys, ws.tmp, ws.count, m, bits);
+        long t1 = System.nanoTime();
+
+        UnionFind uf = ws.uf;
+        uf.reset(n);
+        int[] treeEdge = ws.treeEdge, treeWeight = ws.treeWeight;
+        int size = 0;
+        long cost = 0, ops = m;   // sort
+        int i = 0;
+        for (; i < m && size < n - 1; i++) {
+            int e = (int) keys[i];
+            if (uf.union(csr.edgeFrom(e), csr.edgeTo(e))) {
+                int w = csr.edgeWeight(e);
+                treeEdge[size] = e;
+                treeWeight[size++] = w;
+                cost += w;
+            }
+        }
+        ws.treeSize = size;
+        ws.treeCost = cost;
+        ws.operations = ops + i + size;
+        mm.sortNanos = t1 - t0;
+        mm.unionFindNanos = System.nanoTime() - t1;
+        mm.edgesScanned = i;
+        mm.ufFinds = uf.finds();
+        mm.ufUnions = uf.unions();
+        mm.ufPathLength = uf.pathLength();
+        return size;
+    }
+
+    public MSTResult prim(MstWorkspace ws) { return intoResult(ws, true); }
+    public MSTResult kruskal(MstWorkspace ws) { return intoResult(ws, false); }
+
+    private MSTResult intoResult(MstWorkspace ws, boolean prim) {
+        long a0 = Allocations.currentThreadBytes();
+        long t0 = System.nanoTime();
+        int size = prim ? primInto(ws) : kruskalInto(ws);
+        long t1 = System.nanoTime();
+        long allocated = allocatedSince(a0);
+
+        MSTResult res = new MSTResult();
+        res.mstEdges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) res.mstEdges.add(edge(ws.treeEdge[i]));
+        res.totalCost = (int) ws.treeCost;
+        res.operations = ws.operations;
+        res.allocatedBytes = allocated;
+        res.metrics = ws.metrics.copy();
+        long t2 = System.nanoTime();
+        res.metrics.assemblyNanos = t2 - t1;
+        res.timeMs = (t2 - t0) / 1_000_000.0;
+        if (!prim) {
+            res.ufFinds = ws.uf.finds();
+            res.ufUnions = ws.uf.unions();
+            res.ufPathLength = ws.uf.pathLength();
+        }
+        return publish(res, prim ? "primInto" : "kruskalInto");
+    }
+
+    private static long allocatedSince(long a0) {
+        return a0 < 0 ? -1 : Allocations.currentThreadBytes() - a0;
+    }
+
+    // materializes the CSR rows if this run is the first traversal; returns the ns it took
+    private long ensureAdjacency() {
+        if (csr.hasAdjacency()) return 0;
+        long t0 = System.nanoTime();
+        csr.arcCount();
+        return System.nanoTime() - t0;
+    }
+
+    private MSTResult publish(MSTResult res, String algorithm) {
+        res.metrics.publish(algorithm, csr.vertexCount(), csr.edgeCount());
         return res;
     }
 
     // --- Kruskal algorithm (returns MST edges list) ---
     public MSTResult kruskal() {
+        long a0 = Allocations.currentThreadBytes();
         MSTResult res = new MSTResult();
-        List<Edge> sorted = new ArrayList<>(edges);
-        Collections.sort(sorted);
-        DisjointSet ds = new DisjointSet();
-        ds.makeSet(nodes);
+        MstMetrics mm = res.metrics;
+        int n = csr.vertexCount();
+        int m = csr.edgeCount();
+        // edge ids in (weight, id) order: primitive radix sort, stable by input order
+        long s0 = System.nanoTime();
+        int[] sorted = RadixSort.edgeOrder(csr);
+        UnionFind uf = new UnionFind(n);
+        int[] tree = new int[Math.max(0, n - 1)];
+        int size = 0;
+        long cost = 0;
 
         long t0 = System.nanoTime();
-        for (Edge e : sorted) {
-            res.operations++;
-            String a = e.getFrom();
-            String b = e.getTo();
-            String ra = ds.find(a);
-            String rb = ds.find(b);
-            if (!ra.equals(rb)) {
-                ds.union(ra, rb);
-                res.mstEdges.add(e);
-                res.totalCost += e.getWeight();
-                res.operations++;
+        int i = 0;
+        for (; i < m && size < n - 1; i++) {
+            int e = sorted[i];
+            if (uf.union(csr.edgeFrom(e), csr.edgeTo(e))) {
+                tree[size++] = e;
+                cost += csr.edgeWeight(e);
             }
-            if (res.mstEdges.size() == nodes.size() - 1) break;
         }
         long t1 = System.nanoTime();
-        res.timeMs = (t1 - t0) / 1_000_000.0;
+        res.mstEdges = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) res.mstEdges.add(edge(tree[k]));
+        long t2 = System.nanoTime();
+
+        res.totalCost = (int) cost;
+        res.operations = i + size;
+        res.timeMs = (t2 - s0) / 1_000_000.0;
+        res.ufFinds = uf.finds();
+        res.ufUnions = uf.unions();
+        res.ufPathLength = uf.pathLength();
+        mm.sortNanos = t0 - s0;
+        mm.unionFindNanos = t1 - t0;
+        mm.assemblyNanos = t2 - t1;
+        mm.edgesScanned = i;
+        mm.ufFinds = res.ufFinds;
+        mm.ufUnions = res.ufUnions;
+        mm.ufPathLength = res.ufPathLength;
+        res.allocatedBytes = allocatedSince(a0);
+        return publish(res, "kruskal");
+    }
+
+    // --- Parallel Boruvka (fork/join, same tree and cost as kruskal()) ---
+    public MSTResult boruvka() { return boruvka(ForkJoinPool.commonPool()); }
+
+    public MSTResult boruvka(ForkJoinPool pool) {
+        long c0 = System.nanoTime();
+        MSTResult res = new ParallelBoruvka(csr, pool).run(this);
+        res.timeMs = (System.nanoTime() - c0) / 1_000_000.0;
+        return publish(res, "boruvka");
+    }
+
+    // --- Filter-Kruskal (parallel partition, heavy edges filtered before sorting) ---
+    public MSTResult filterKruskal() { return filterKruskal(ForkJoinPool.commonPool()); }
+
+    public MSTResult filterKruskal(ForkJoinPool pool) {
+        long c0 = System.nanoTime();
+        MSTResult res = new FilterKruskal(csr, pool).run(this);   // the constructor packs the sort keys
+        res.timeMs = (System.nanoTime() - c0) / 1_000_000.0;
+        return publish(res, "filterKruskal");
+    }
+
+    // --- Minimum spanning forest (parallel component labels, per-component Kruskal) ---
+    // prim() only spans the component of the first vertex and kruskal() cannot stop
+    // early on a disconnected graph; this returns every component's tree and cost.
+    public MSFResult spanningForest() { return spanningForest(ForkJoinPool.commonPool()); }
+
+    public MSFResult spanningForest(ForkJoinPool pool) {
+        MSFResult res = new SpanningForest(csr, pool).run(this);
+        publish(res, "spanningForest");
         return res;
     }
 
     // --- helpers & nested classes ---
     private static class PEdge implements Comparable<PEdge> {
-        String from, to;
+        int from, to;
         int weight;
-        PEdge(String f, String t, int w) { from=f; to=t; weight=w; }
+        PEdge(int f, int t, int w) { from=f; to=t; weight=w; }
         @Override public int compareTo(PEdge o) { return Integer.compare(weight, o.weight); }
     }
 
-    private static class DisjointSet {
-        private final Map<String, String> parent = new HashMap<>();
-        public void makeSet(Collection<String> verts) { for (String v : verts) parent.put(v, v); }
-        public String find(String v) {
-            if (!parent.get(v).equals(v)) parent.put(v, find(parent.get(v)));
-            return parent.get(v);
-        }
-        public void union(String a, String b) { parent.put(find(b), find(a)); }
-    }
-
     public static class MSTResult {
         public List<Edge> mstEdges = new ArrayList<>();
         public int totalCost = 0;
-        public int operations = 0;
+        public long operations = 0;
+        // wall time of the whole engine call: adjacency or matrix builds, sorts and
+        // result assembly included; metrics splits it into phases
         public double timeMs = 0.0;
+        // union-find counters (Kruskal only)
+        public long ufFinds = 0;
+        public long ufUnions = 0;
+        public long ufPathLength = 0;
+        public int rounds = 0;    // Boruvka rounds
+        public long allocatedBytes = -1;   // bytes allocated by the run on the calling thread, -1 if not measured
+        public MstMetrics metrics = new MstMetrics();   // per-phase timers and counters
+        public String engine = null;         // set by MstPlanner: which engine ran
+        public String engineReason = null;   // and the rule that picked it
+    }
+
+    // mstEdges holds the trees one component after another; component c is numbered
+    // by its smallest vertex id and owns tree edges [vertexStart[c] - c, vertexStart[c + 1] - c - 1)
+    public static class MSFResult extends MSTResult {
+        public int components = 0;
+        public int[] componentOf = new int[0];     // vertex id -> component
+        public long[] componentCost = new long[0];
+        int[] vertexStart = {0};
+
+        public int componentSize(int c) { return vertexStart[c + 1] - vertexStart[c]; }
+
+        public boolean isSpanningTree() { return components <= 1; }
+
+        // the tree of one component as its own result (a view over mstEdges)
+        public MSTResult component(int c) {
+            MSTResult r = new MSTResult();
+            r.mstEdges = Collections.unmodifiableList(mstEdges.subList(vertexStart[c] - c, vertexStart[c + 1] - c - 1));
+            r.totalCost = (int) componentCost[c];
+            return r;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Incremental builder that interns vertex names as they arrive and appends
+// edges straight into growable int arrays, so no Edge objects are created.
+// Vertex ids follow first appearance (declared nodes or edge endpoints).
+// The GraphHash of the content is accumulated on the way in, so a parsed
+// graph never needs a second pass to be hashed.
+public final class GraphBuilder {
+    private String[] names = new String[16];
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int vertexCount;
+
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int[] weight = new int[16];
+    private int edgeCount;
+    private final GraphHash.Hasher hash = new GraphHash.Hasher();
+
+    // returns the id of name, interning it on first sight
+    public int addVertex(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+        if (vertexCount == names.length) names = Arrays.copyOf(names, vertexCount * 2);
+        names[vertexCount] = name;
+        ids.put(name, vertexCount);
+        hash.vertex(name);
+        return vertexCount++;
+    }
+
+    public void addEdge(String from, String to, int weight) {
+        addEdge(addVertex(from), addVertex(to), weight);
+    }
+
+    public void addEdge(int from, int to, int weight) {
+        if (edgeCount == this.from.length) {
+            int cap = edgeCount * 2;
+            this.from = Arrays.copyOf(this.from, cap);
+            this.to = Arrays.copyOf(this.to, cap);
+            this.weight = Arrays.copyOf(this.weight, cap);
+        }
+        this.from[edgeCount] = from;
+        this.to[edgeCount] = to;
+        this.weight[edgeCount] = weight;
+        edgeCount++;
+        hash.edge(from, to, weight);
+    }
+
+    public int vertexCount() { return vertexCount; }
+    public int edgeCount() { return edgeCount; }
+
+    // the builder must not be used after build(): the arrays are handed over
+    public Graph build() {
+        String[] n = Arrays.copyOf(names, vertexCount);
+        CsrGraph csr = new CsrGraph(vertexCount, from, to, weight, edgeCount);
+        return new Graph(n, ids, csr, hash.finish());
+    }
+}
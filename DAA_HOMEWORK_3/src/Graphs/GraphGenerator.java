@@ -0,0 +1,389 @@
+package Graphs;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Seeded synthetic graphs for scale testing. Edges are produced in fixed-size
+// chunks and every chunk draws from its own SplittableRandom derived from
+// (seed, chunk index), so the output is identical for any thread count and a
+// chunk can be generated on whichever worker is free. Vertices are named v0..v{n-1}.
+//
+//   GNM       m edges between uniform random vertex pairs
+//   GRID      rows x cols lattice (edges argument ignored)
+//   RMAT      power-law degrees, recursive quadrant choice with (a,b,c,d) = (.57,.19,.19,.05)
+//   COMPLETE  every vertex pair (edges argument ignored)
+//
+// GNM and RMAT start with a random spanning tree (edges 0..n-2) unless
+// connected(false) is set, so the MST covers every vertex. A connected graph
+// needs edges >= n - 1; fewer throw IllegalArgumentException when generating.
+// writeBinary() fills a memory-mapped file section by section, so the heap only
+// ever holds O(n) ints besides the per-thread chunks.
+public final class GraphGenerator {
+    public enum Family { GNM, GRID, RMAT, COMPLETE }
+    public enum Weights { UNIFORM, DUPLICATES }
+
+    private static final int CHUNK = 1 << 20;
+    private static final int DUPLICATE_VALUES = 10;
+    private static final double RMAT_A = 0.57, RMAT_B = 0.19, RMAT_C = 0.19;
+
+    private final Family family;
+    private final Weights weights;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int cols;             // GRID only
+
+    private long seed = 42L;
+    private int maxWeight = 1_000_000;
+    private boolean connected = true;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    public GraphGenerator(Family family, int vertices, long edges, Weights weights) {
+        if (vertices < 1) throw new IllegalArgumentException("vertices must be >= 1");
+        this.family = family;
+        this.weights = weights;
+        long m;
+        switch (family) {
+            case GRID: {
+                int rows = (int) Math.sqrt(vertices);
+                cols = vertices / rows;
+                vertices = rows * cols;
+                m = (long) rows * (cols - 1) + (long) (rows - 1) * cols;
+                break;
+            }
+            case COMPLETE:
+                cols = 0;
+                m = (long) vertices * (vertices - 1) / 2;
+                break;
+            default:
+                cols = 0;
+                m = edges;
+                if (m > 0 && vertices < 2) throw new IllegalArgumentException("Random edges need at least 2 vertices");
+        }
+        // the binary format maps 2m arcs of 4 bytes as one section
+        if (m < 0 || m > Integer.MAX_VALUE / 8) throw new IllegalArgumentException("Edge count out of range: " + m);
+        this.vertexCount = vertices;
+        this.edgeCount = (int) m;
+    }
+
+    public GraphGenerator seed(long seed) { this.seed = seed; return this; }
+    public GraphGenerator connected(boolean connected) { this.connected = connected; return this; }
+    public GraphGenerator threads(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.threads = threads;
+        return this;
+    }
+    public GraphGenerator maxWeight(int maxWeight) {
+        if (maxWeight < 1) throw new IllegalArgumentException("maxWeight must be >= 1");
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    public int vertexCount() { return vertexCount; }
+    public int edgeCount() { return edgeCount; }
+
+    // --- in memory ---
+    public Graph generate() {
+        checkSpanning();
+        int[] from = new int[edgeCount], to = new int[edgeCount], weight = new int[edgeCount];
+        forEachChunk((c, lo, len) -> {
+            int[][] buf = chunk(c, lo, len);
+            System.arraycopy(buf[0], 0, from, lo, len);
+            System.arraycopy(buf[1], 0, to, lo, len);
+            System.arraycopy(buf[2], 0, weight, lo, len);
+        });
+        String[] names = new String[vertexCount];
+        for (int v = 0; v < vertexCount; v++) names[v] = name(v);
+        return new Graph(names, null, new CsrGraph(vertexCount, from, to, weight, edgeCount));
+    }
+
+    // --- binary format (see BinaryGraphFormat), written through mapped sections ---
+    public void writeBinary(Path file) throws IOException {
+        checkSpanning();
+        int n = vertexCount, m = edgeCount;
+        long nameBytes = 0;
+        for (int v = 0; v < n; v++) nameBytes += 1 + digits(v);
+        if (nameBytes > Integer.MAX_VALUE) throw new IOException("Vertex name table larger than 2 GB");
+        long[] section = BinaryGraphFormat.layout(n, m, nameBytes);
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ch.map(FileChannel.MapMode.READ_WRITE, 0, section[0]).put(BinaryGraphFormat.header(n, m, section));
+
+            IntBuffer nameOffsets = ints(ch, section[0], n + 1);
+            ByteBuffer names = ch.map(FileChannel.MapMode.READ_WRITE, section[1], nameBytes);
+            int pos = 0;
+            nameOffsets.put(0, 0);
+            for (int v = 0; v < n; v++) {
+                names.put(name(v).getBytes(StandardCharsets.US_ASCII));
+                nameOffsets.put(v + 1, pos += 1 + digits(v));
+            }
+
+            // edge arrays: chunks land at their own index range, in parallel
+            IntBuffer from = ints(ch, section[2], m), to = ints(ch, section[3], m), weight = ints(ch, section[4], m);
+            forEachChunk((c, lo, len) -> {
+                int[][] buf = chunk(c, lo, len);
+                from.put(lo, buf[0], 0, len);
+                to.put(lo, buf[1], 0, len);
+                weight.put(lo, buf[2], 0, len);
+            });
+
+            // CSR: counting pass over the mapped edges, then a fill pass in input order (as CsrGraph does)
+            int[] off = new int[n + 1];
+            int[] a = new int[Math.min(CHUNK, Math.max(m, 1))], b = new int[a.length];
+            for (int lo = 0; lo < m; lo += a.length) {
+                int len = Math.min(a.length, m - lo);
+                from.get(lo, a, 0, len);
+                to.get(lo, b, 0, len);
+                for (int i = 0; i < len; i++) { off[a[i] + 1]++; off[b[i] + 1]++; }
+            }
+            for (int v = 0; v < n; v++) off[v + 1] += off[v];
+            ints(ch, section[5], n + 1).put(0, off);
+
+            int arcs = 2 * m;
+            IntBuffer targets = ints(ch, section[6], arcs), weights = ints(ch, section[7], arcs), arcEdge = ints(ch, section[8], arcs);
+            int[] w = new int[a.length];
+            int[] next = off;   // offsets are on disk now, reuse the array as fill cursors
+            for (int lo = 0; lo < m; lo += a.length) {
+                int len = Math.min(a.length, m - lo);
+                from.get(lo, a, 0, len);
+                to.get(lo, b, 0, len);
+                weight.get(lo, w, 0, len);
+                for (int i = 0; i < len; i++) {
+                    int x = next[a[i]]++, y = next[b[i]]++;
+                    targets.put(x, b[i]); weights.put(x, w[i]); arcEdge.put(x, lo + i);
+                    targets.put(y, a[i]); weights.put(y, w[i]); arcEdge.put(y, lo + i);
+                }
+            }
+        }
+    }
+
+    // --- JSON input format (one graph object, as found in the "graphs" array) ---
+    public void writeJson(Writer out, int id) throws IOException {
+        checkSpanning();
+        out.write("    {\n      \"id\": " + id + ",\n      \"nodes\": [");
+        for (int v = 0; v < vertexCount; v++) {
+            if (v > 0) out.write(v % 32 == 0 ? ",\n        " : ", ");
+            out.write('"');
+            out.write(name(v));
+            out.write('"');
+        }
+        out.write("],\n      \"edges\": [\n");
+
+        // generate a wave of chunks in parallel, then write them in order
+        int chunks = (edgeCount + CHUNK - 1) / CHUNK;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            StringBuilder sb = new StringBuilder(64);
+            long written = 0;
+            for (int first = 0; first < chunks; first += threads) {
+                List<Callable<int[][]>> wave = new ArrayList<>();
+                for (int c = first; c < Math.min(chunks, first + threads); c++) {
+                    int chunk = c, lo = c * CHUNK, len = Math.min(CHUNK, edgeCount - lo);
+                    wave.add(() -> chunk(chunk, lo, len));
+                }
+                for (Future<int[][]> f : pool.invokeAll(wave)) {
+                    int[][] buf = join(f);
+                    for (int i = 0; i < buf[0].length; i++) {
+                        sb.setLength(0);
+                        if (written++ > 0) sb.append(",\n");
+                        sb.append("        {\"from\": \"v").append(buf[0][i]).append("\", \"to\": \"v").append(buf[1][i])
+                          .append("\", \"weight\": ").append(buf[2][i]).append('}');
+                        out.append(sb);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Generation interrupted", ex);
+        } finally {
+            pool.shutdown();
+        }
+        out.write("\n      ]\n    }");
+    }
+
+    // --- edge generation ---
+    // checked on use, not in the constructor, since connected(false) comes after it
+    private void checkSpanning() {
+        if (connected && (family == Family.GNM || family == Family.RMAT) && edgeCount < vertexCount - 1)
+            throw new IllegalArgumentException("A connected " + family + " graph on " + vertexCount + " vertices needs at least "
+                    + (vertexCount - 1) + " edges, got " + edgeCount + "; use connected(false) for a sparser graph");
+    }
+
+    private interface ChunkJob { void run(int chunk, int lo, int len); }
+
+    private void forEachChunk(ChunkJob job) {
+        int chunks = (edgeCount + CHUNK - 1) / CHUNK;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c, lo = c * CHUNK, len = Math.min(CHUNK, edgeCount - lo);
+                tasks.add(() -> { job.run(chunk, lo, len); return null; });
+            }
+            for (Future<Void> f : pool.invokeAll(tasks)) join(f);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generation interrupted", ex);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> T join(Future<T> f) throws InterruptedException {
+        try {
+            return f.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) throw (RuntimeException) ex.getCause();
+            throw new IllegalStateException("Generation failed", ex.getCause());
+        }
+    }
+
+    // edges [lo, lo + len) as {from[], to[], weight[]}
+    private int[][] chunk(int c, int lo, int len) {
+        SplittableRandom rnd = new SplittableRandom(mix(seed + 0x9E3779B97F4A7C15L * (c + 1)));
+        int[] from = new int[len], to = new int[len], weight = new int[len];
+        switch (family) {
+            case GRID: {
+                int horizontal = (vertexCount / cols) * (cols - 1);
+                for (int i = 0; i < len; i++) {
+                    int e = lo + i;
+                    if (e < horizontal) {
+                        int row = e / (cols - 1), col = e % (cols - 1);
+                        from[i] = row * cols + col;
+                        to[i] = from[i] + 1;
+                    } else {
+                        from[i] = e - horizontal;
+                        to[i] = from[i] + cols;
+                    }
+                }
+                break;
+            }
+            case COMPLETE: {
+                int n = vertexCount, u = completeRow(lo);
+                int v = u + 1 + (int) (lo - rowStart(u));
+                for (int i = 0; i < len; i++) {
+                    from[i] = u;
+                    to[i] = v;
+                    if (++v == n) { u++; v = u + 1; }
+                }
+                break;
+            }
+            default: {
+                int n = vertexCount, tree = connected ? n - 1 : 0;
+                for (int i = 0; i < len; i++) {
+                    int e = lo + i;
+                    if (e < tree) {
+                        from[i] = e + 1;
+                        to[i] = rnd.nextInt(e + 1);
+                    } else if (family == Family.GNM) {
+                        int u = rnd.nextInt(n), v;
+                        do { v = rnd.nextInt(n); } while (v == u);
+                        from[i] = u;
+                        to[i] = v;
+                    } else {
+                        long pair = rmatPair(rnd, n);
+                        from[i] = (int) (pair >>> 32);
+                        to[i] = (int) pair;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < len; i++)
+            weight[i] = 1 + rnd.nextInt(weights == Weights.DUPLICATES ? Math.min(DUPLICATE_VALUES, maxWeight) : maxWeight);
+        return new int[][] { from, to, weight };
+    }
+
+    // recursive quadrant descent over a 2^scale square, rejecting out-of-range ids and self loops
+    private static long rmatPair(SplittableRandom rnd, int n) {
+        int scale = 32 - Integer.numberOfLeadingZeros(n - 1);
+        while (true) {
+            int u = 0, v = 0;
+            for (int bit = 1 << (scale - 1); bit > 0; bit >>>= 1) {
+                double r = rnd.nextDouble();
+                if (r < RMAT_A) continue;
+                if (r < RMAT_A + RMAT_B) v |= bit;
+                else if (r < RMAT_A + RMAT_B + RMAT_C) u |= bit;
+                else { u |= bit; v |= bit; }
+            }
+            if (u < n && v < n && u != v) return ((long) u << 32) | v;
+        }
+    }
+
+    // edges before row u in row-major (u < v) order
+    private long rowStart(int u) { return (long) u * vertexCount - (long) u * (u + 1) / 2; }
+
+    private int completeRow(long e) {
+        int lo = 0, hi = vertexCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (rowStart(mid) <= e) lo = mid; else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String name(int v) { return "v" + v; }
+
+    private static int digits(int v) { return v < 10 ? 1 : 1 + digits(v / 10); }
+
+    private static IntBuffer ints(FileChannel ch, long at, int count) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_WRITE, at, 4L * count).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    // usage: GraphGenerator <gnm|grid|rmat|complete> <vertices> <edges> <uniform|duplicates> <seed> <out.json|out.mstg> [graphs]
+    // -Dgen.threads=N sets the worker count; a JSON file holds [graphs] graphs with seeds seed, seed+1, ...
+    public static void main(String[] args) throws IOException {
+        if (args.length < 6) {
+            System.err.println("usage: GraphGenerator <gnm|grid|rmat|complete> <vertices> <edges> <uniform|duplicates> <seed> <out.json|out.mstg> [graphs]");
+            return;
+        }
+        Family family = Family.valueOf(args[0].toUpperCase());
+        int vertices = Integer.parseInt(args[1]);
+        long edges = Long.parseLong(args[2]);
+        Weights weights = Weights.valueOf(args[3].toUpperCase());
+        long seed = Long.parseLong(args[4]);
+        Path out = Paths.get(args[5]);
+        int graphs = args.length > 6 ? Integer.parseInt(args[6]) : 1;
+        int threads = Integer.getInteger("gen.threads", Runtime.getRuntime().availableProcessors());
+
+        long t0 = System.nanoTime();
+        GraphGenerator gen = new GraphGenerator(family, vertices, edges, weights).seed(seed).threads(threads);
+        if (out.toString().endsWith(".json")) {
+            try (Writer w = new BufferedWriter(new FileWriter(out.toFile()), 1 << 20)) {
+                w.write("{\n  \"graphs\": [\n");
+                for (int g = 0; g < graphs; g++) {
+                    if (g > 0) w.write(",\n");
+                    gen.seed(seed + g).writeJson(w, g + 1);
+                }
+                w.write("\n  ]\n}\n");
+            }
+        } else {
+            gen.writeBinary(out);
+        }
+        System.out.printf("Wrote %s: %d graph(s), %d vertices, %d edges each (%.1f s)%n",
+                out, out.toString().endsWith(".json") ? graphs : 1, gen.vertexCount(), gen.edgeCount(),
+                (System.nanoTime() - t0) / 1e9);
+    }
+}
@@ -0,0 +1,82 @@
+package Graphs;
+
+// 128-bit content hash of a graph: vertex names in id order plus every edge as
+// (from id, to id, weight) in input order. It identifies what was parsed, not how
+// it was written, so whitespace, key order, escapes and the graph "id" do not
+// matter, while reordered nodes or edges (which change Prim's start vertex and
+// tie-breaking) do. GraphBuilder computes it while the reader feeds it, so the
+// JSON path gets it in the parsing pass; of(Graph) computes the same value for
+// graphs built any other way. Fast and well mixed, but not cryptographic.
+public final class GraphHash {
+    public final long hi;
+    public final long lo;
+
+    GraphHash(long hi, long lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    public static GraphHash of(Graph g) {
+        Hasher h = new Hasher();
+        CsrGraph c = g.getCsr();
+        for (int v = 0; v < c.vertexCount(); v++) h.vertex(g.nameOf(v));
+        for (int e = 0; e < c.edgeCount(); e++) h.edge(c.edgeFrom(e), c.edgeTo(e), c.edgeWeight(e));
+        return h.finish();
+    }
+
+    // 32 hex digits
+    @Override
+    public String toString() { return String.format("%016x%016x", hi, lo); }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof GraphHash)) return false;
+        GraphHash h = (GraphHash) o;
+        return hi == h.hi && lo == h.lo;
+    }
+
+    @Override
+    public int hashCode() { return (int) (lo ^ (lo >>> 32)); }
+
+    // incremental: vertices and edges go into separate lanes, two 64-bit lanes each
+    static final class Hasher {
+        private static final long P1 = 0x9E3779B97F4A7C15L, P2 = 0xC2B2AE3D27D4EB4FL;
+        private long v1 = 0x243F6A8885A308D3L, v2 = 0x13198A2E03707344L;
+        private long e1 = 0xA4093822299F31D0L, e2 = 0x082EFA98EC4E6C89L;
+        private int vertices, edges;
+
+        void vertex(String name) {
+            long a = v1, b = v2;
+            int len = name.length();
+            for (int i = 0; i < len; i++) {
+                char ch = name.charAt(i);
+                a = (a ^ ch) * P1;
+                b = Long.rotateLeft(b ^ ch, 23) * P2;
+            }
+            v1 = mix(a ^ len);
+            v2 = mix(b + len);
+            vertices++;
+        }
+
+        void edge(int from, int to, int weight) {
+            long x = ((long) from << 32) | (to & 0xFFFFFFFFL);
+            e1 = Long.rotateLeft((e1 ^ x) * P1, 31) ^ weight;
+            e1 *= P2;
+            e2 = Long.rotateLeft((e2 + weight) * P2, 27) ^ x;
+            e2 *= P1;
+            edges++;
+        }
+
+        GraphHash finish() {
+            long h1 = mix(v1 ^ Long.rotateLeft(e1, 17) ^ ((long) vertices << 32 | edges));
+            long h2 = mix(v2 + Long.rotateLeft(e2, 41) + ((long) edges << 32 | vertices));
+            return new GraphHash(h1, h2);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+            z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package Graphs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Streaming reader for the assignment input format
+//   {"graphs": [{"id": 1, "nodes": ["A", ...], "edges": [{"from": "A", "to": "B", "weight": 4}, ...]}, ...]}
+// It tokenizes bytes from a fixed-size buffer and feeds each graph straight into
+// a GraphBuilder; next() returns one graph at a time, so memory is bounded by the
+// largest single graph, not by the file. Unknown keys are skipped. The builder
+// hashes the content as it goes, so graph.contentHash() is free for parsed graphs.
+public final class GraphJsonReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static final class Entry {
+        public final int id;
+        public final Graph graph;
+        public final long parseNanos;   // tokenizing this graph and feeding the builder
+        public final long buildNanos;   // GraphBuilder.build()
+
+        Entry(int id, Graph graph, long parseNanos, long buildNanos) {
+            this.id = id;
+            this.graph = graph;
+            this.parseNanos = parseNanos;
+            this.buildNanos = buildNanos;
+        }
+    }
+
+    private final InputStream in;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos, limit;
+    private long consumed;                      // bytes before buf[0], for error positions
+    private byte[] text = new byte[64];         // scratch for string values
+    private boolean inGraphs;                   // positioned inside the "graphs" array
+    private boolean finished;
+    private int ordinal;
+
+    public GraphJsonReader(InputStream in) { this.in = in; }
+
+    public GraphJsonReader(ReadableByteChannel channel) { this(Channels.newInputStream(channel)); }
+
+    // next graph of the "graphs" array, or null at the end of the input
+    public Entry next() throws IOException {
+        if (finished) return null;
+        if (!inGraphs) {
+            if (!seekGraphs()) { finished = true; return null; }
+            inGraphs = true;
+            if (peek() == ']') { read(); finished = true; return null; }
+        } else {
+            int c = read();
+            if (c == ']') { finished = true; return null; }
+            if (c != ',') throw error("',' or ']' after graph");
+        }
+        return readGraph();
+    }
+
+    @Override
+    public void close() throws IOException { in.close(); }
+
+    // --- document structure ---
+
+    // walks the top-level object up to the value of "graphs" and consumes its '['
+    private boolean seekGraphs() throws IOException {
+        expect('{');
+        if (peek() == '}') return false;
+        while (true) {
+            String key = readString();
+            expect(':');
+            if (key.equals("graphs")) { expect('['); return true; }
+            skipValue();
+            int c = read();
+            if (c == '}') return false;
+            if (c != ',') throw error("',' or '}' in top-level object");
+        }
+    }
+
+    private Entry readGraph() throws IOException {
+        ordinal++;
+        int id = ordinal;
+        long t0 = System.nanoTime();
+        GraphBuilder b = new GraphBuilder();
+        expect('{');
+        if (peek() != '}') {
+            while (true) {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "id": id = readInt(); break;
+                    case "nodes": readNodes(b); break;
+                    case "edges": readEdges(b); break;
+                    default: skipValue();
+                }
+                if (peek() == ',') { read(); continue; }
+                break;
+            }
+        }
+        expect('}');
+        long t1 = System.nanoTime();
+        Graph g = b.build();
+        return new Entry(id, g, t1 - t0, System.nanoTime() - t1);
+    }
+
+    private void readNodes(GraphBuilder b) throws IOException {
+        expect('[');
+        if (peek() == ']') { read(); return; }
+        while (true) {
+            b.addVertex(readString());
+            int c = read();
+            if (c == ']') return;
+            if (c != ',') throw error("',' or ']' in nodes");
+        }
+    }
+
+    private void readEdges(GraphBuilder b) throws IOException {
+        expect('[');
+        if (peek() == ']') { read(); return; }
+        while (true) {
+            String from = null, to = null;
+            int weight = 0;
+            boolean hasWeight = false;
+            expect('{');
+            while (peek() != '}') {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "from": from = readString(); break;
+                    case "to": to = readString(); break;
+                    case "weight": weight = readInt(); hasWeight = true; break;
+                    default: skipValue();
+                }
+                if (peek() == ',') read();
+            }
+            read();
+            if (from == null || to == null || !hasWeight) throw error("edge without from/to/weight");
+            b.addEdge(from, to, weight);
+            int c = read();
+            if (c == ']') return;
+            if (c != ',') throw error("',' or ']' in edges");
+        }
+    }
+
+    // --- tokens ---
+
+    private String readString() throws IOException {
+        expect('"');
+        int len = 0;
+        boolean ascii = true;
+        while (true) {
+            int c = rawRead();
+            if (c < 0) throw error("unterminated string");
+            if (c == '"') break;
+            if (c == '\\') {
+                c = rawRead();
+                switch (c) {
+                    case '"': case '\\': case '/': break;
+                    case 'b': c = '\b'; break;
+                    case 'f': c = '\f'; break;
+                    case 'n': c = '\n'; break;
+                    case 'r': c = '\r'; break;
+                    case 't': c = '\t'; break;
+                    case 'u': {
+                        int cp = readHex4();
+                        // a high + low surrogate escape pair is one code point; a lone surrogate has no UTF-8 form
+                        if (Character.isLowSurrogate((char) cp)) throw error("lone low surrogate \\u" + Integer.toHexString(cp));
+                        if (Character.isHighSurrogate((char) cp)) {
+                            if (rawRead() != '\\' || rawRead() != 'u') throw error("lone high surrogate \\u" + Integer.toHexString(cp));
+                            int low = readHex4();
+                            if (!Character.isLowSurrogate((char) low)) throw error("lone high surrogate \\u" + Integer.toHexString(cp));
+                            cp = Character.toCodePoint((char) cp, (char) low);
+                        }
+                        len = putUtf8(len, cp);
+                        ascii &= cp < 0x80;
+                        continue;
+                    }
+                    default: throw error("bad escape");
+                }
+            }
+            ascii &= c < 0x80;
+            len = put(len, (byte) c);
+        }
+        return ascii ? new String(text, 0, len, StandardCharsets.ISO_8859_1)
+                     : new String(text, 0, len, StandardCharsets.UTF_8);
+    }
+
+    private int readHex4() throws IOException {
+        int cp = 0;
+        for (int i = 0; i < 4; i++) cp = (cp << 4) | hex(rawRead());
+        return cp;
+    }
+
+    private int putUtf8(int len, int cp) {
+        if (cp < 0x80) return put(len, (byte) cp);
+        if (cp < 0x800) {
+            len = put(len, (byte) (0xC0 | cp >>> 6));
+        } else {
+            if (cp < 0x10000) {
+                len = put(len, (byte) (0xE0 | cp >>> 12));
+            } else {
+                len = put(len, (byte) (0xF0 | cp >>> 18));
+                len = put(len, (byte) (0x80 | (cp >>> 12) & 0x3F));
+            }
+            len = put(len, (byte) (0x80 | (cp >>> 6) & 0x3F));
+        }
+        return put(len, (byte) (0x80 | cp & 0x3F));
+    }
+
+    private int put(int len, byte b) {
+        if (len == text.length) text = Arrays.copyOf(text, len * 2);
+        text[len] = b;
+        return len + 1;
+    }
+
+    private int readInt() throws IOException {
+        int c = read();
+        boolean neg = c == '-';
+        if (neg) c = rawRead();
+        if (c < '0' || c > '9') throw error("number expected");
+        long v = 0;
+        while (true) {
+            v = v * 10 + (c - '0');
+            if (v > (long) Integer.MAX_VALUE + 1) throw error("integer out of range");
+            c = peekRaw();
+            if (c < '0' || c > '9') break;
+            rawRead();
+        }
+        if (c == '.' || c == 'e' || c == 'E') throw error("integer expected");
+        v = neg ? -v : v;
+        if (v > Integer.MAX_VALUE) throw error("integer out of range");
+        return (int) v;
+    }
+
+    // skips any JSON value (used for keys this reader does not know)
+    private void skipValue() throws IOException {
+        int c = peek();
+        if (c == '"') { readString(); return; }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            boolean inString = false;
+            do {
+                c = rawRead();
+                if (c < 0) throw error("unterminated value");
+                if (inString) {
+                    if (c == '\\') rawRead();
+                    else if (c == '"') inString = false;
+                } else if (c == '"') inString = true;
+                else if (c == '{' || c == '[') depth++;
+                else if (c == '}' || c == ']') depth--;
+            } while (depth > 0);
+            return;
+        }
+        // number, true, false, null
+        read();
+        while (true) {
+            c = peekRaw();
+            if (c < 0 || c == ',' || c == '}' || c == ']' || isSpace(c)) return;
+            rawRead();
+        }
+    }
+
+    private int hex(int c) throws IOException {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        throw error("bad \\u escape");
+    }
+
+    private static boolean isSpace(int c) { return c == ' ' || c == '\n' || c == '\r' || c == '\t'; }
+
+    private void expect(char c) throws IOException {
+        if (read() != c) throw error("'" + c + "' expected");
+    }
+
+    // --- buffered byte access ---
+
+    private int peek() throws IOException {
+        int c;
+        while (isSpace(c = peekRaw())) pos++;
+        return c;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c >= 0) pos++;
+        return c;
+    }
+
+    private int peekRaw() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buf[pos] & 0xFF;
+    }
+
+    private int rawRead() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buf[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        int n = in.read(buf, 0, buf.length);
+        if (n <= 0) return false;
+        limit = n;
+        return true;
+    }
+
+    private IOException error(String what) {
+        return new IOException("Malformed graph JSON near byte " + (consumed + pos) + ": " + what);
+    }
+}
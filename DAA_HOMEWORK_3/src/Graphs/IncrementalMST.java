@@ -0,0 +1,226 @@
+package Graphs;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Keeps a minimum spanning forest up to date while edges are inserted or get
+// cheaper, without rerunning prim()/kruskal(). Seeded from any MSTResult of the
+// graph (a seed that spans only part of it, like prim() on a disconnected graph,
+// is completed first); afterwards each update is one cycle-property check on a
+// link-cut tree: a new (or cheaper) edge u-v replaces the heaviest tree edge on
+// the u..v path if it is lighter, otherwise the tree stays as it is.
+// O(log n) amortized per update.
+//
+// Edge ids: the graph's edges keep their ids 0..m-1, inserted edges continue
+// from m. Ties are broken by (weight, id) as in kruskal(), so results compare
+// edge for edge. LCT node ids: vertex v is node v, edge e is node n + e.
+public class IncrementalMST {
+    final Graph graph;
+    final int vertexCount;
+    final LinkCutTree lct;
+
+    int[] from, to, weight;
+    boolean[] inTree;
+    int edgeCount;
+    int treeEdges;
+    int totalCost;
+    int updates;
+    long updateNanos;
+
+    // result of one update; entered/left are edge ids, -1 when nothing moved in/out of the tree
+    public static final class Update {
+        public final int edge;
+        public final int entered;
+        public final int left;
+        public final int totalCost;
+
+        Update(int edge, int entered, int left, int totalCost) {
+            this.edge = edge;
+            this.entered = entered;
+            this.left = left;
+            this.totalCost = totalCost;
+        }
+
+        public boolean treeChanged() { return entered >= 0 || left >= 0; }
+    }
+
+    public IncrementalMST(Graph graph, Graph.MSTResult seed) {
+        this.graph = graph;
+        this.vertexCount = graph.vertexCount();
+        CsrGraph csr = graph.getCsr();
+        int m = csr.edgeCount();
+        int cap = Math.max(16, m);
+        from = new int[cap];
+        to = new int[cap];
+        weight = new int[cap];
+        inTree = new boolean[cap];
+        lct = new LinkCutTree(vertexCount + cap);
+
+        // graph edges by (endpoints, weight); every seed edge claims one of them
+        Map<Edge, ArrayDeque<Integer>> byEdge = new HashMap<>(m * 2);
+        for (int e = 0; e < m; e++) {
+            from[e] = csr.edgeFrom(e);
+            to[e] = csr.edgeTo(e);
+            weight[e] = csr.edgeWeight(e);
+            byEdge.computeIfAbsent(graph.edge(e), k -> new ArrayDeque<>()).add(e);
+        }
+        edgeCount = m;
+        for (Edge t : seed.mstEdges) {
+            ArrayDeque<Integer> ids = byEdge.get(t);
+            if (ids == null || ids.isEmpty()) throw new IllegalArgumentException("Seed edge not in graph: " + t);
+            int e = ids.poll();
+            if (lct.connected(from[e], to[e])) throw new IllegalArgumentException("Seed is not a forest at edge " + t);
+            attach(e);
+        }
+        // prim() only spans the component of vertex 0: complete a partial seed edge by edge
+        UnionFind uf = new UnionFind(vertexCount);
+        for (int e = 0; e < m; e++) uf.union(from[e], to[e]);
+        if (treeEdges < vertexCount - uf.components())
+            for (int e = 0; e < m; e++) if (!inTree[e]) seedOffer(e);
+    }
+
+    // --- updates ---
+    public Update insertEdge(String from, String to, int weight) {
+        return insertEdge(graph.idOf(from), graph.idOf(to), weight);
+    }
+
+    public Update insertEdge(int from, int to, int weight) {
+        if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount)
+            throw new IllegalArgumentException("Vertex id out of range: " + from + "-" + to);
+        long t0 = System.nanoTime();
+        int e = newEdge(from, to, weight);
+        Update u = offer(e);
+        finish(t0);
+        return u;
+    }
+
+    public Update decreaseWeight(int edge, int newWeight) {
+        checkEdge(edge);
+        if (newWeight > weight[edge])
+            throw new IllegalArgumentException("New weight " + newWeight + " is larger than " + weight[edge]);
+        long t0 = System.nanoTime();
+        Update u;
+        if (inTree[edge]) {
+            // a tree edge only gets cheaper: the tree stays minimal
+            totalCost -= weight[edge] - newWeight;
+            weight[edge] = newWeight;
+            lct.setValue(vertexCount + edge, key(edge));
+            u = new Update(edge, -1, -1, totalCost);
+        } else {
+            weight[edge] = newWeight;
+            u = offer(edge);
+        }
+        finish(t0);
+        return u;
+    }
+
+    // --- queries ---
+    public int totalCost() { return totalCost; }
+    public int treeEdgeCount() { return treeEdges; }
+    public int edgeCount() { return edgeCount; }
+    public boolean isTreeEdge(int edge) { checkEdge(edge); return inTree[edge]; }
+    public int weightOf(int edge) { checkEdge(edge); return weight[edge]; }
+
+    public Edge edge(int edge) {
+        checkEdge(edge);
+        return new Edge(graph.nameOf(from[edge]), graph.nameOf(to[edge]), weight[edge]);
+    }
+
+    // current forest in kruskal() order; operations = updates applied, timeMs = time spent in them
+    public Graph.MSTResult result() {
+        long[] keys = new long[treeEdges];
+        int k = 0;
+        for (int e = 0; e < edgeCount; e++) if (inTree[e]) keys[k++] = key(e);
+        Arrays.sort(keys);
+        Graph.MSTResult res = new Graph.MSTResult();
+        for (long key : keys) res.mstEdges.add(edge((int) key));
+        res.totalCost = totalCost;
+        res.operations = updates;
+        res.timeMs = updateNanos / 1_000_000.0;
+        return res;
+    }
+
+    // --- internals ---
+    // cycle property: e enters if its endpoints are apart or it beats the path maximum
+    Update offer(int e) {
+        int u = from[e], v = to[e];
+        if (u == v) return new Update(e, -1, -1, totalCost);
+        if (!lct.connected(u, v)) {
+            addTreeEdge(e);
+            return new Update(e, e, -1, totalCost);
+        }
+        int max = lct.pathMax(u, v) - vertexCount;
+        if (key(max) <= key(e)) return new Update(e, -1, -1, totalCost);
+        removeTreeEdge(max);
+        addTreeEdge(e);
+        return new Update(e, e, max, totalCost);
+    }
+
+    // hooks for subclasses that index the tree; the constructor never calls them,
+    // it seeds through the private attach()/detach()/seedOffer() instead
+    void addTreeEdge(int e) { attach(e); }
+
+    void removeTreeEdge(int e) { detach(e); }
+
+    // offer() for the constructor: the same cycle-property step without the hooks
+    private void seedOffer(int e) {
+        int u = from[e], v = to[e];
+        if (u == v) return;
+        if (!lct.connected(u, v)) {
+            attach(e);
+            return;
+        }
+        int max = lct.pathMax(u, v) - vertexCount;
+        if (key(max) > key(e)) {
+            detach(max);
+            attach(e);
+        }
+    }
+
+    private void attach(int e) {
+        int node = vertexCount + e;
+        lct.reset(node, key(e));
+        lct.link(from[e], node);
+        lct.link(node, to[e]);
+        inTree[e] = true;
+        treeEdges++;
+        totalCost += weight[e];
+    }
+
+    private void detach(int e) {
+        int node = vertexCount + e;
+        lct.cut(from[e], node);
+        lct.cut(node, to[e]);
+        inTree[e] = false;
+        treeEdges--;
+        totalCost -= weight[e];
+    }
+
+    int newEdge(int u, int v, int w) {
+        if (edgeCount == from.length) {
+            int cap = edgeCount * 2;
+            from = Arrays.copyOf(from, cap);
+            to = Arrays.copyOf(to, cap);
+            weight = Arrays.copyOf(weight, cap);
+            inTree = Arrays.copyOf(inTree, cap);
+            lct.ensureCapacity(vertexCount + cap);
+        }
+        from[edgeCount] = u;
+        to[edgeCount] = v;
+        weight[edgeCount] = w;
+        return edgeCount++;
+    }
+
+    final long key(int e) { return ((long) weight[e] << 32) | e; }
+
+    void checkEdge(int edge) {
+        if (edge < 0 || edge >= edgeCount) throw new IllegalArgumentException("Unknown edge id: " + edge);
+    }
+
+    void finish(long t0) {
+        updates++;
+        updateNanos += System.nanoTime() - t0;
+    }
+}
@@ -0,0 +1,104 @@
+package Graphs;
+
+// Indexed min-heap with arity d over int items 0..capacity-1 and int keys.
+// Every item is in the heap at most once, so it never holds more than
+// capacity entries, and decreaseKey moves an item in place (no stale copies).
+// Larger d makes decreaseKey cheaper (shallower tree) and pollMin dearer,
+// which pays off on dense graphs where decreases far outnumber polls.
+public final class IndexedDaryHeap {
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int d;
+    private final int[] heap;   // heap position -> item
+    private final int[] pos;    // item -> heap position, -1 when absent
+    private final int[] key;    // item -> current key
+    private int size;
+
+    public IndexedDaryHeap(int capacity) { this(capacity, DEFAULT_ARITY); }
+
+    public IndexedDaryHeap(int capacity, int d) {
+        if (d < 2) throw new IllegalArgumentException("Heap arity must be >= 2: " + d);
+        this.d = d;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.key = new int[capacity];
+        java.util.Arrays.fill(pos, -1);
+    }
+
+    public int arity() { return d; }
+    public int capacity() { return heap.length; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean contains(int item) { return pos[item] >= 0; }
+    public int keyOf(int item) { return key[item]; }
+    public int peekMin() { return heap[0]; }
+    public int minKey() { return key[heap[0]]; }
+
+    public void insert(int item, int k) {
+        if (pos[item] >= 0) throw new IllegalStateException("Item already in heap: " + item);
+        key[item] = k;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    public void decreaseKey(int item, int k) {
+        if (k > key[item]) throw new IllegalArgumentException("Key increase for item " + item);
+        key[item] = k;
+        siftUp(pos[item]);
+    }
+
+    public int pollMin() {
+        int min = heap[0];
+        int last = heap[--size];
+        pos[min] = -1;
+        if (size > 0) {
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        int k = key[item];
+        while (i > 0) {
+            int p = (i - 1) / d;
+            int parent = heap[p];
+            if (key[parent] <= k) break;
+            heap[i] = parent;
+            pos[parent] = i;
+            i = p;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        int k = key[item];
+        while (true) {
+            int first = i * d + 1;
+            if (first >= size) break;
+            int last = Math.min(first + d, size);
+            int best = first;
+            int bestKey = key[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                int ck = key[heap[c]];
+                if (ck < bestKey) { best = c; bestKey = ck; }
+            }
+            if (bestKey >= k) break;
+            heap[i] = heap[best];
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+}
@@ -0,0 +1,47 @@
+package Graphs;
+
+// JSON string literals for the writers. GraphJsonReader accepts any string the
+// grammar allows (quotes, backslashes, escaped control characters, surrogate
+// pairs), so every name or message written back must go through quote().
+// Control characters and lone surrogates are written as hex escapes, which keeps
+// the output valid UTF-8 whatever the writer's charset does with them.
+public final class Json {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Json() { }
+
+    // s as a quoted JSON string, escapes included
+    public static String quote(String s) {
+        return appendQuoted(new StringBuilder(s.length() + 2), s).toString();
+    }
+
+    public static StringBuilder appendQuoted(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20 || (Character.isSurrogate(c) && !pairedAt(s, i))) {
+                        sb.append("\\u").append(HEX[c >> 12]).append(HEX[(c >> 8) & 15]).append(HEX[(c >> 4) & 15]).append(HEX[c & 15]);
+                    } else if (Character.isHighSurrogate(c)) {
+                        sb.append(c).append(s.charAt(++i));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"');
+    }
+
+    // is s[i] a high surrogate followed by a low one?
+    private static boolean pairedAt(String s, int i) {
+        return Character.isHighSurrogate(s.charAt(i)) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1));
+    }
+}
@@ -0,0 +1,184 @@
+package Graphs;
+
+import java.util.Arrays;
+
+// Link-cut tree (Sleator-Tarjan) over dense node ids with path-max queries.
+// Every node carries a long value; pathMax(a, b) returns the node with the
+// largest value on the tree path a..b. Dynamic MST code stores vertices as
+// nodes with value Long.MIN_VALUE and every tree edge as its own node between
+// its two endpoints, so the path max is the heaviest edge on the cycle a new
+// edge would close. All operations are amortized O(log n); the splay trees are
+// kept in flat int arrays and walked iteratively.
+public final class LinkCutTree {
+    private static final int NIL = -1;
+
+    private int[] left, right, parent;   // parent doubles as the path-parent pointer
+    private boolean[] flip;               // lazy subtree reversal (evert)
+    private long[] value;
+    private int[] maxNode;                // node with the largest value in the splay subtree
+    private int[] stack;
+
+    public LinkCutTree(int capacity) {
+        left = new int[0];
+        right = new int[0];
+        parent = new int[0];
+        flip = new boolean[0];
+        value = new long[0];
+        maxNode = new int[0];
+        stack = new int[0];
+        ensureCapacity(capacity);
+    }
+
+    public int capacity() { return parent.length; }
+
+    // new nodes start isolated with value Long.MIN_VALUE
+    public void ensureCapacity(int nodes) {
+        int old = parent.length;
+        if (nodes <= old) return;
+        int cap = Math.max(nodes, old + (old >> 1));
+        left = Arrays.copyOf(left, cap);
+        right = Arrays.copyOf(right, cap);
+        parent = Arrays.copyOf(parent, cap);
+        flip = Arrays.copyOf(flip, cap);
+        value = Arrays.copyOf(value, cap);
+        maxNode = Arrays.copyOf(maxNode, cap);
+        stack = new int[cap];
+        for (int x = old; x < cap; x++) reset(x, Long.MIN_VALUE);
+    }
+
+    // detaches nothing: only valid for a node that is not linked to anything
+    public void reset(int x, long v) {
+        left[x] = right[x] = parent[x] = NIL;
+        flip[x] = false;
+        value[x] = v;
+        maxNode[x] = x;
+    }
+
+    public long value(int x) { return value[x]; }
+
+    public void setValue(int x, long v) {
+        access(x);
+        value[x] = v;
+        pull(x);
+    }
+
+    public boolean connected(int a, int b) {
+        return a == b || findRoot(a) == findRoot(b);
+    }
+
+    // a and b must be in different trees
+    public void link(int a, int b) {
+        if (connected(a, b)) throw new IllegalArgumentException("Nodes " + a + " and " + b + " are already connected");
+        makeRoot(a);
+        parent[a] = b;
+    }
+
+    // the tree edge a-b must exist
+    public void cut(int a, int b) {
+        makeRoot(a);
+        access(b);
+        if (left[b] == a) push(a);
+        if (left[b] != a || right[a] != NIL) throw new IllegalArgumentException("No tree edge " + a + "-" + b);
+        left[b] = NIL;
+        parent[a] = NIL;
+        pull(b);
+    }
+
+    // node with the largest value on the path a..b (a and b must be connected)
+    public int pathMax(int a, int b) {
+        makeRoot(a);
+        access(b);
+        return maxNode[b];
+    }
+
+    // --- core ---
+    private boolean isRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int best = x;
+        int l = left[x], r = right[x];
+        if (l != NIL && value[maxNode[l]] > value[best]) best = maxNode[l];
+        if (r != NIL && value[maxNode[r]] > value[best]) best = maxNode[r];
+        maxNode[x] = best;
+    }
+
+    private void push(int x) {
+        if (!flip[x]) return;
+        int l = left[x];
+        left[x] = right[x];
+        right[x] = l;
+        if (left[x] != NIL) flip[left[x]] ^= true;
+        if (right[x] != NIL) flip[right[x]] ^= true;
+        flip[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x], g = parent[p];
+        boolean pRoot = isRoot(p);
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!pRoot) {
+            if (left[g] == p) left[g] = x; else right[g] = x;
+        }
+        pull(p);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        // push pending flips top-down along the splay path first
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isRoot(y); y = parent[y]) stack[top++] = parent[y];
+        while (top > 0) push(stack[--top]);
+
+        while (!isRoot(x)) {
+            int p = parent[x];
+            if (!isRoot(p)) {
+                int g = parent[p];
+                rotate((left[g] == p) == (left[p] == x) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    // makes root..x the preferred path; afterwards x is the root of its splay tree
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int r = x;
+        while (true) {
+            push(r);
+            if (left[r] == NIL) break;
+            r = left[r];
+        }
+        splay(r);
+        return r;
+    }
+}
@@ -0,0 +1,229 @@
+package Graphs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Bounded cache of MST results keyed by (GraphHash, algorithm name), for inputs
+// that resubmit the same graphs. The memory tier is an access-ordered LRU capped
+// both by entry count and by the total number of stored tree edges, so a few huge
+// trees cannot pin the heap. With a directory set, every result is also written
+// through to <dir>/<hash>-<algorithm>.mst and read back on a memory miss, which
+// carries results across runs; the disk tier is not bounded.
+// Stored results are copies with an unmodifiable edge list; a hit hands out a
+// fresh MSTResult over that list, so callers cannot corrupt the cache. Disk
+// failures never fail the caller: they count as a miss and in diskErrors().
+// Thread-safe. Two threads missing the same key concurrently both compute.
+public final class MstCache {
+    private static final int MAGIC = 0x4D535433;   // "MST3": long operations, metrics record, engine
+
+    private final int maxEntries;
+    private final long maxEdges;
+    private final Path dir;
+    private final LinkedHashMap<String, Graph.MSTResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedEdges;
+
+    private long hits, diskHits, misses, evictions, diskWrites, diskErrors;
+
+    // dir may be null for a memory-only cache
+    public MstCache(int maxEntries, long maxEdges, Path dir) {
+        if (maxEntries < 1 || maxEdges < 1) throw new IllegalArgumentException("maxEntries and maxEdges must be >= 1");
+        this.maxEntries = maxEntries;
+        this.maxEdges = maxEdges;
+        this.dir = dir;
+    }
+
+    // -Dmst.cache=<entries> enables it (null otherwise); -Dmst.cache.edges, -Dmst.cache.dir
+    public static MstCache fromSystemProperties() {
+        int n = Integer.getInteger("mst.cache", 0);
+        if (n <= 0) return null;
+        long edges = Long.getLong("mst.cache.edges", 1L << 24);
+        String d = System.getProperty("mst.cache.dir");
+        return new MstCache(n, edges, d == null ? null : Paths.get(d));
+    }
+
+    public Graph.MSTResult computeIfAbsent(Graph g, String algorithm, Function<Graph, Graph.MSTResult> compute) {
+        GraphHash h = g.contentHash();
+        Graph.MSTResult r = get(h, algorithm);
+        if (r != null) return r;
+        r = compute.apply(g);
+        put(h, algorithm, r);
+        return r;
+    }
+
+    // stored result or null; a disk hit is promoted into memory
+    public Graph.MSTResult get(GraphHash hash, String algorithm) {
+        String key = key(hash, algorithm);
+        synchronized (this) {
+            Graph.MSTResult r = entries.get(key);
+            if (r != null) {
+                hits++;
+                return view(r);
+            }
+        }
+        Graph.MSTResult r = dir == null ? null : readDisk(key);
+        synchronized (this) {
+            if (r == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            insert(key, r);
+        }
+        return view(r);
+    }
+
+    public void put(GraphHash hash, String algorithm, Graph.MSTResult result) {
+        String key = key(hash, algorithm);
+        Graph.MSTResult stored = copy(result, Collections.unmodifiableList(new ArrayList<>(result.mstEdges)));
+        synchronized (this) {
+            insert(key, stored);
+        }
+        if (dir != null) writeDisk(key, stored);
+    }
+
+    public synchronized long hits() { return hits + diskHits; }
+    public synchronized long diskHits() { return diskHits; }
+    public synchronized long misses() { return misses; }
+    public synchronized long evictions() { return evictions; }
+    public synchronized long diskWrites() { return diskWrites; }
+    public synchronized long diskErrors() { return diskErrors; }
+    public synchronized int size() { return entries.size(); }
+    public synchronized long storedEdges() { return storedEdges; }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("MstCache[entries=%d, edges=%d, hits=%d (disk %d), misses=%d, evictions=%d]",
+                entries.size(), storedEdges, hits + diskHits, diskHits, misses, evictions);
+    }
+
+    // --- memory tier ---
+    private void insert(String key, Graph.MSTResult r) {
+        Graph.MSTResult old = entries.put(key, r);
+        if (old != null) storedEdges -= old.mstEdges.size();
+        storedEdges += r.mstEdges.size();
+        // evict least recently used, but always keep the entry just inserted
+        Iterator<Map.Entry<String, Graph.MSTResult>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || storedEdges > maxEdges) && entries.size() > 1) {
+            Map.Entry<String, Graph.MSTResult> eldest = it.next();
+            if (eldest.getKey().equals(key)) continue;
+            storedEdges -= eldest.getValue().mstEdges.size();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static String key(GraphHash hash, String algorithm) { return hash + "-" + algorithm; }
+
+    private static Graph.MSTResult view(Graph.MSTResult r) { return copy(r, r.mstEdges); }
+
+    private static Graph.MSTResult copy(Graph.MSTResult r, List<Edge> edges) {
+        Graph.MSTResult c = new Graph.MSTResult();
+        c.mstEdges = edges;
+        c.totalCost = r.totalCost;
+        c.operations = r.operations;
+        c.timeMs = r.timeMs;
+        c.ufFinds = r.ufFinds;
+        c.ufUnions = r.ufUnions;
+        c.ufPathLength = r.ufPathLength;
+        c.rounds = r.rounds;
+        c.allocatedBytes = r.allocatedBytes;
+        c.metrics = r.metrics.copy();
+        c.engine = r.engine;
+        c.engineReason = r.engineReason;
+        return c;
+    }
+
+    // --- disk tier ---
+    private Path file(String key) { return dir.resolve(key + ".mst"); }
+
+    private Graph.MSTResult readDisk(String key) {
+        Path f = file(key);
+        if (!Files.isRegularFile(f)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(f)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Bad cache file: " + f);
+            int n = in.readInt();
+            List<Edge> edges = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) edges.add(new Edge(in.readUTF(), in.readUTF(), in.readInt()));
+            Graph.MSTResult r = new Graph.MSTResult();
+            r.mstEdges = Collections.unmodifiableList(edges);
+            r.totalCost = in.readInt();
+            r.operations = in.readLong();
+            r.timeMs = in.readDouble();
+            r.ufFinds = in.readLong();
+            r.ufUnions = in.readLong();
+            r.ufPathLength = in.readLong();
+            r.rounds = in.readInt();
+            r.allocatedBytes = in.readLong();
+            long[] metrics = new long[MstMetrics.COLUMNS.size()];
+            for (int i = 0; i < metrics.length; i++) metrics[i] = in.readLong();
+            r.metrics = MstMetrics.of(metrics);
+            r.engine = in.readBoolean() ? in.readUTF() : null;
+            r.engineReason = in.readBoolean() ? in.readUTF() : null;
+            return r;
+        } catch (IOException ex) {
+            synchronized (this) { diskErrors++; }
+            return null;
+        }
+    }
+
+    private static void writeOptional(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) out.writeUTF(s);
+    }
+
+    // written to a temp file and moved into place, so readers never see a partial file
+    private void writeDisk(String key, Graph.MSTResult r) {
+        Path f = file(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(r.mstEdges.size());
+                for (Edge e : r.mstEdges) {
+                    out.writeUTF(e.getFrom());
+                    out.writeUTF(e.getTo());
+                    out.writeInt(e.getWeight());
+                }
+                out.writeInt(r.totalCost);
+                out.writeLong(r.operations);
+                out.writeDouble(r.timeMs);
+                out.writeLong(r.ufFinds);
+                out.writeLong(r.ufUnions);
+                out.writeLong(r.ufPathLength);
+                out.writeInt(r.rounds);
+                out.writeLong(r.allocatedBytes);
+                for (long v : r.metrics.values()) out.writeLong(v);
+                writeOptional(out, r.engine);
+                writeOptional(out, r.engineReason);
+            }
+            try {
+                Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING);
+            }
+            synchronized (this) { diskWrites++; }
+        } catch (IOException ex) {
+            synchronized (this) { diskErrors++; }
+            try {
+                if (tmp != null) Files.deleteIfExists(tmp);
+            } catch (IOException ignored) { }
+        }
+    }
+}
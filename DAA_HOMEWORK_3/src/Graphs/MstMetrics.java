@@ -0,0 +1,140 @@
+package Graphs;
+
+import java.util.List;
+
+// Per-run instrumentation of an MST computation: nanosecond timers for every
+// phase plus long event counters, so nothing wraps on large graphs. Engines fill
+// the phases they have and leave the rest at 0:
+//   parse/build     reading the graph and building it (set by the caller that parsed it);
+//                   build also covers CSR adjacency when a run materializes it
+//   sort            ordering the edges (Kruskal)
+//   heap            Prim's relaxation loop: pops, arc scans, pushes / decrease-keys
+//   unionFind       Kruskal's scan over the sorted edges
+//   assembly        turning tree edge ids into the Edge list of the result
+// publish() adds a run to the JMX totals (MstStats) and emits a JFR MstRunEvent.
+// Filling the fields is plain arithmetic, so the allocation-free kernels keep
+// one instance in their workspace and stay allocation-free.
+public final class MstMetrics {
+    public long parseNanos, buildNanos, sortNanos, heapNanos, unionFindNanos, assemblyNanos;
+    public long edgesScanned, heapPushes, heapPops, stalePops, decreaseKeys;
+    public long ufFinds, ufUnions, ufPathLength;
+
+    // flat record layout shared by values(), CSV and JSON output and the JMX totals
+    public static final List<String> COLUMNS = List.of(
+            "parse_ns", "build_ns", "sort_ns", "heap_ns", "union_find_ns", "assembly_ns",
+            "edges_scanned", "heap_pushes", "heap_pops", "stale_pops", "decrease_keys",
+            "uf_finds", "uf_unions", "uf_path_length");
+
+    public long[] values() {
+        return new long[] {
+                parseNanos, buildNanos, sortNanos, heapNanos, unionFindNanos, assemblyNanos,
+                edgesScanned, heapPushes, heapPops, stalePops, decreaseKeys,
+                ufFinds, ufUnions, ufPathLength };
+    }
+
+    public long totalNanos() {
+        return parseNanos + buildNanos + sortNanos + heapNanos + unionFindNanos + assemblyNanos;
+    }
+
+    public void reset() {
+        parseNanos = buildNanos = sortNanos = heapNanos = unionFindNanos = assemblyNanos = 0;
+        edgesScanned = heapPushes = heapPops = stalePops = decreaseKeys = 0;
+        ufFinds = ufUnions = ufPathLength = 0;
+    }
+
+    public MstMetrics copy() {
+        MstMetrics m = new MstMetrics();
+        m.add(this);
+        return m;
+    }
+
+    public void add(MstMetrics o) {
+        parseNanos += o.parseNanos;
+        buildNanos += o.buildNanos;
+        sortNanos += o.sortNanos;
+        heapNanos += o.heapNanos;
+        unionFindNanos += o.unionFindNanos;
+        assemblyNanos += o.assemblyNanos;
+        edgesScanned += o.edgesScanned;
+        heapPushes += o.heapPushes;
+        heapPops += o.heapPops;
+        stalePops += o.stalePops;
+        decreaseKeys += o.decreaseKeys;
+        ufFinds += o.ufFinds;
+        ufUnions += o.ufUnions;
+        ufPathLength += o.ufPathLength;
+    }
+
+    // restores a record written by values() (e.g. from a cache file)
+    public static MstMetrics of(long[] v) {
+        if (v.length != COLUMNS.size()) throw new IllegalArgumentException("Expected " + COLUMNS.size() + " values, got " + v.length);
+        MstMetrics m = new MstMetrics();
+        int i = 0;
+        m.parseNanos = v[i++]; m.buildNanos = v[i++]; m.sortNanos = v[i++];
+        m.heapNanos = v[i++]; m.unionFindNanos = v[i++]; m.assemblyNanos = v[i++];
+        m.edgesScanned = v[i++]; m.heapPushes = v[i++]; m.heapPops = v[i++];
+        m.stalePops = v[i++]; m.decreaseKeys = v[i++];
+        m.ufFinds = v[i++]; m.ufUnions = v[i++]; m.ufPathLength = v[i];
+        return m;
+    }
+
+    // --- flat output ---
+    // "prefix_parse_ns,prefix_build_ns,..."
+    public static String csvHeader(String prefix) {
+        StringBuilder sb = new StringBuilder();
+        for (String c : COLUMNS) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(prefix).append('_').append(c);
+        }
+        return sb.toString();
+    }
+
+    public String csvValues() {
+        StringBuilder sb = new StringBuilder();
+        for (long v : values()) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(v);
+        }
+        return sb.toString();
+    }
+
+    // one-line JSON object with the COLUMNS keys
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{");
+        long[] v = values();
+        for (int i = 0; i < v.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('"').append(COLUMNS.get(i)).append("\": ").append(v[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public String toString() { return toJson(); }
+
+    // --- export ---
+    public void publish(String algorithm, int vertices, int edges) {
+        MstStats.get().record(algorithm, this);
+        MstRunEvent ev = new MstRunEvent();
+        if (ev.shouldCommit()) {
+            ev.algorithm = algorithm;
+            ev.vertices = vertices;
+            ev.edges = edges;
+            ev.parseNanos = parseNanos;
+            ev.buildNanos = buildNanos;
+            ev.sortNanos = sortNanos;
+            ev.heapNanos = heapNanos;
+            ev.unionFindNanos = unionFindNanos;
+            ev.assemblyNanos = assemblyNanos;
+            ev.edgesScanned = edgesScanned;
+            ev.heapPushes = heapPushes;
+            ev.heapPops = heapPops;
+            ev.stalePops = stalePops;
+            ev.decreaseKeys = decreaseKeys;
+            ev.ufFinds = ufFinds;
+            ev.ufUnions = ufUnions;
+            ev.ufPathLength = ufPathLength;
+            ev.commit();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Picks the MST engine per graph from one O(E) pass of statistics (V, E,
+// density, weight range, distinct weights), runs it, and records the engine and
+// the rule that chose it in MSTResult.engine / engineReason. Rules, first match:
+//   E < V - 1                  spanningForest  (cannot be connected)
+//   distinct <= fewWeights     kruskal         (radix scatter into a few hot buckets)
+//   density >= denseDensity    primDense       (O(V^2) matrix scans, if the matrix fits
+//                                               in matrixHeapShare of the max heap)
+//   density >= denseDensity    primEager       (decrease-key beats sorting E edges)
+//   E >= filterEdges           filterKruskal   (heavy edges filtered before sorting; parallel)
+//   otherwise                  kruskal
+// A Prim engine that does not reach every vertex falls back to spanningForest.
+//
+// Defaults come from BENCHMARK runs (gnm/complete, V = 2000 and 5000, densities
+// 0.005..1, uniform 2^20 and duplicate weights, one core): Kruskal won every
+// duplicates run; with wide weight ranges eager Prim won from density ~0.5 and
+// Filter-Kruskal from ~2^19 edges below that. On freshly built complete graphs
+// (V = 3000..8000) primDense ran 2-4x faster than primEager including its CSR
+// adjacency build. Every threshold can be overridden with -Dmst.planner.<name>,
+// see fromSystemProperties().
+public final class MstPlanner {
+    public static final int DEFAULT_FEW_WEIGHTS = 16;
+    public static final double DEFAULT_DENSE_DENSITY = 0.5;
+    public static final long DEFAULT_FILTER_EDGES = 1 << 19;
+    public static final int DEFAULT_ARITY = IndexedDaryHeap.DEFAULT_ARITY;
+    public static final double DEFAULT_MATRIX_HEAP_SHARE = 0.5;
+
+    private static final int EXACT_RANGE = 1 << 22;    // count distinct weights exactly below this range
+    private static final int SAMPLE = 4096;            // edges sampled above it
+
+    public enum Engine {
+        PRIM_DENSE("primDense"), PRIM_EAGER("primEager"), KRUSKAL("kruskal"), FILTER_KRUSKAL("filterKruskal"), SPANNING_FOREST("spanningForest");
+
+        public final String algorithm;   // the name the engine publishes its metrics under
+        Engine(String algorithm) { this.algorithm = algorithm; }
+    }
+
+    private final int fewWeights;
+    private final double denseDensity;
+    private final long filterEdges;
+    private final int arity;
+    private final double matrixHeapShare;
+    private final ForkJoinPool pool;
+
+    public MstPlanner(int fewWeights, double denseDensity, long filterEdges, int arity, double matrixHeapShare,
+                      ForkJoinPool pool) {
+        if (arity < 2) throw new IllegalArgumentException("Heap arity must be >= 2: " + arity);
+        this.fewWeights = fewWeights;
+        this.denseDensity = denseDensity;
+        this.filterEdges = filterEdges;
+        this.arity = arity;
+        this.matrixHeapShare = matrixHeapShare;
+        this.pool = pool;
+    }
+
+    public MstPlanner() {
+        this(DEFAULT_FEW_WEIGHTS, DEFAULT_DENSE_DENSITY, DEFAULT_FILTER_EDGES, DEFAULT_ARITY,
+                DEFAULT_MATRIX_HEAP_SHARE, ForkJoinPool.commonPool());
+    }
+
+    // -Dmst.planner.fewWeights, .denseDensity, .filterEdges, .arity, .matrixHeapShare
+    // (0 disables primDense); defaults above
+    public static MstPlanner fromSystemProperties() {
+        return new MstPlanner(Integer.getInteger("mst.planner.fewWeights", DEFAULT_FEW_WEIGHTS),
+                doubleProperty("mst.planner.denseDensity", DEFAULT_DENSE_DENSITY),
+                Long.getLong("mst.planner.filterEdges", DEFAULT_FILTER_EDGES),
+                Integer.getInteger("mst.planner.arity", DEFAULT_ARITY),
+                doubleProperty("mst.planner.matrixHeapShare", DEFAULT_MATRIX_HEAP_SHARE),
+                ForkJoinPool.commonPool());
+    }
+
+    private static double doubleProperty(String name, double def) {
+        String v = System.getProperty(name);
+        return v == null ? def : Double.parseDouble(v);
+    }
+
+    public Plan plan(Graph g) { return plan(Stats.of(g.getCsr())); }
+
+    public Plan plan(Stats s) {
+        if (s.edges < s.vertices - 1L)
+            return new Plan(Engine.SPANNING_FOREST, s, String.format("E=%d < V-1=%d: disconnected", s.edges, s.vertices - 1L));
+        if (s.distinctWeights <= fewWeights)
+            return new Plan(Engine.KRUSKAL, s, String.format("%d distinct weights <= %d", s.distinctWeights, fewWeights));
+        long matrixBytes = 4L * s.vertices * s.vertices;
+        if (s.density >= denseDensity && s.vertices <= DensePrim.MAX_VERTICES
+                && s.minWeight != Integer.MIN_VALUE && s.maxWeight != Integer.MAX_VALUE   // DensePrim's sentinels
+                && matrixBytes <= matrixHeapShare * Runtime.getRuntime().maxMemory())
+            return new Plan(Engine.PRIM_DENSE, s, String.format("density %.3f >= %.3f, %d MB matrix fits",
+                    s.density, denseDensity, matrixBytes >> 20));
+        if (s.density >= denseDensity)
+            return new Plan(Engine.PRIM_EAGER, s, String.format("density %.3f >= %.3f", s.density, denseDensity));
+        if (s.edges >= filterEdges)
+            return new Plan(Engine.FILTER_KRUSKAL, s, String.format("E=%d >= %d, %d-bit weights", s.edges, filterEdges, s.weightBits));
+        return new Plan(Engine.KRUSKAL, s, String.format("E=%d, density %.3f: default", s.edges, s.density));
+    }
+
+    public Graph.MSTResult run(Graph g) {
+        long t0 = System.nanoTime();
+        Plan p = plan(g);
+        long planNanos = System.nanoTime() - t0;
+        Graph.MSTResult res = run(g, p.engine);
+        String reason = p.reason;
+        if ((p.engine == Engine.PRIM_DENSE || p.engine == Engine.PRIM_EAGER) && res.mstEdges.size() < g.vertexCount() - 1) {
+            reason += String.format("; prim spanned %d of %d vertices, fell back", res.mstEdges.size() + 1, g.vertexCount());
+            res = run(g, Engine.SPANNING_FOREST);
+        }
+        res.engineReason = reason + String.format(" (planned in %.3f ms)", planNanos / 1_000_000.0);
+        return res;
+    }
+
+    private Graph.MSTResult run(Graph g, Engine e) {
+        Graph.MSTResult res;
+        switch (e) {
+            case PRIM_DENSE: res = g.primDense(); break;
+            case PRIM_EAGER: res = g.primEager(arity); break;
+            case FILTER_KRUSKAL: res = g.filterKruskal(pool); break;
+            case SPANNING_FOREST: res = g.spanningForest(pool); break;
+            default: res = g.kruskal();
+        }
+        res.engine = e.algorithm;
+        return res;
+    }
+
+    public static final class Plan {
+        public final Engine engine;
+        public final Stats stats;
+        public final String reason;
+
+        Plan(Engine engine, Stats stats, String reason) {
+            this.engine = engine;
+            this.stats = stats;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() { return engine.algorithm + ": " + reason; }
+    }
+
+    // distinctWeights is exact for weight ranges below 2^22 and estimated from a
+    // strided sample of SAMPLE edges above that; duplicateRatio = 1 - distinct / E
+    public static final class Stats {
+        public final int vertices, edges;
+        public final double density;
+        public final int minWeight, maxWeight, weightBits;
+        public final long distinctWeights;
+        public final double duplicateRatio;
+
+        Stats(int vertices, int edges, int minWeight, int maxWeight, long distinctWeights) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.density = vertices < 2 ? 0.0 : 2.0 * edges / ((double) vertices * (vertices - 1));
+            this.minWeight = minWeight;
+            this.maxWeight = maxWeight;
+            this.weightBits = edges == 0 ? 0 : 64 - Long.numberOfLeadingZeros((long) maxWeight - minWeight);
+            this.distinctWeights = distinctWeights;
+            this.duplicateRatio = edges == 0 ? 0.0 : 1.0 - (double) distinctWeights / edges;
+        }
+
+        public static Stats of(CsrGraph g) {
+            int m = g.edgeCount();
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            for (int e = 0; e < m; e++) {
+                int w = g.edgeWeight(e);
+                if (w < min) min = w;
+                if (w > max) max = w;
+            }
+            if (m == 0) return new Stats(g.vertexCount(), 0, 0, 0, 0);
+            long range = (long) max - min;
+            long distinct;
+            if (range < EXACT_RANGE) {
+                long[] seen = new long[(int) (range >>> 6) + 1];
+                distinct = 0;
+                for (int e = 0; e < m; e++) {
+                    int b = g.edgeWeight(e) - min;
+                    long bit = 1L << b;
+                    if ((seen[b >>> 6] & bit) == 0) {
+                        seen[b >>> 6] |= bit;
+                        distinct++;
+                    }
+                }
+            } else {
+                int k = Math.min(m, SAMPLE);
+                int[] sample = new int[k];
+                for (int i = 0; i < k; i++) sample[i] = g.edgeWeight((int) ((long) i * m / k));
+                Arrays.sort(sample);
+                int d = 1;
+                for (int i = 1; i < k; i++) if (sample[i] != sample[i - 1]) d++;
+                distinct = (long) d * m / k;   // a sample without repeats reads as all distinct
+            }
+            return new Stats(g.vertexCount(), m, min, max, distinct);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("V=%d E=%d density=%.4f weights=[%d, %d] (%d bits) distinct=%d duplicates=%.3f",
+                    vertices, edges, density, minWeight, maxWeight, weightBits, distinctWeights, duplicateRatio);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package Graphs;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// JFR event for one MST run, committed by MstMetrics.publish(). Disabled unless a
+// recording enables it, e.g. -XX:StartFlightRecording with Graphs.MstRun enabled
+// in the settings, or `jfr configure +Graphs.MstRun#enabled=true`.
+@Name("Graphs.MstRun")
+@Label("MST Run")
+@Category({"Graphs", "MST"})
+@Description("Per-phase timers and counters of one minimum spanning tree computation")
+@StackTrace(false)
+final class MstRunEvent extends jdk.jfr.Event {
+    @Label("Algorithm") String algorithm;
+    @Label("Vertices") int vertices;
+    @Label("Edges") int edges;
+
+    @Label("Parse") @Timespan(Timespan.NANOSECONDS) long parseNanos;
+    @Label("Build") @Timespan(Timespan.NANOSECONDS) long buildNanos;
+    @Label("Sort") @Timespan(Timespan.NANOSECONDS) long sortNanos;
+    @Label("Heap") @Timespan(Timespan.NANOSECONDS) long heapNanos;
+    @Label("Union-Find") @Timespan(Timespan.NANOSECONDS) long unionFindNanos;
+    @Label("Assembly") @Timespan(Timespan.NANOSECONDS) long assemblyNanos;
+
+    @Label("Edges Scanned") long edgesScanned;
+    @Label("Heap Pushes") long heapPushes;
+    @Label("Heap Pops") long heapPops;
+    @Label("Stale Pops") long stalePops;
+    @Label("Decrease Keys") long decreaseKeys;
+    @Label("UF Finds") long ufFinds;
+    @Label("UF Unions") long ufUnions;
+    @Label("UF Path Length") long ufPathLength;
+}
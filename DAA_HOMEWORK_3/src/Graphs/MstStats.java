@@ -0,0 +1,78 @@
+package Graphs;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Process-wide totals of every published MstMetrics record. Recording is a few
+// LongAdder increments, safe from concurrent batch jobs. The MBean is registered
+// on demand (register(), or -Dmst.jmx=true at first use) so plain library use
+// never starts the platform MBean server.
+public final class MstStats implements MstStatsMXBean {
+    public static final String OBJECT_NAME = "Graphs:type=MstStats";
+    private static final MstStats INSTANCE = new MstStats();
+    private static boolean registered;
+
+    static {
+        if (Boolean.getBoolean("mst.jmx")) register();
+    }
+
+    private final LongAdder runs = new LongAdder();
+    private final Map<String, LongAdder> byAlgorithm = new ConcurrentHashMap<>();
+    private final LongAdder[] totals = new LongAdder[MstMetrics.COLUMNS.size()];
+
+    private MstStats() {
+        for (int i = 0; i < totals.length; i++) totals[i] = new LongAdder();
+    }
+
+    public static MstStats get() { return INSTANCE; }
+
+    public static synchronized void register() {
+        if (registered) return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) server.registerMBean(INSTANCE, name);
+            registered = true;
+        } catch (JMException ex) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, ex);
+        }
+    }
+
+    void record(String algorithm, MstMetrics m) {
+        runs.increment();
+        byAlgorithm.computeIfAbsent(algorithm, a -> new LongAdder()).increment();
+        long[] v = m.values();
+        for (int i = 0; i < v.length; i++) if (v[i] != 0) totals[i].add(v[i]);
+    }
+
+    @Override
+    public long getRuns() { return runs.sum(); }
+
+    @Override
+    public Map<String, Long> getRunsByAlgorithm() {
+        Map<String, Long> out = new TreeMap<>();
+        byAlgorithm.forEach((a, n) -> out.put(a, n.sum()));
+        return out;
+    }
+
+    @Override
+    public Map<String, Long> getTotals() {
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (int i = 0; i < totals.length; i++) out.put(MstMetrics.COLUMNS.get(i), totals[i].sum());
+        return out;
+    }
+
+    @Override
+    public void reset() {
+        runs.reset();
+        byAlgorithm.clear();
+        for (LongAdder t : totals) t.reset();
+    }
+}
@@ -0,0 +1,16 @@
+package Graphs;
+
+import java.util.Map;
+
+// JMX view of MstStats, registered as "Graphs:type=MstStats"
+public interface MstStatsMXBean {
+    long getRuns();
+
+    // run count per algorithm name
+    Map<String, Long> getRunsByAlgorithm();
+
+    // sums over all published runs, keyed by MstMetrics.COLUMNS
+    Map<String, Long> getTotals();
+
+    void reset();
+}
@@ -0,0 +1,240 @@
+package Graphs;
+
+import java.util.Arrays;
+
+// Certifies one MST result against its graph without computing a second tree.
+// A set of tree edges T is a minimum spanning forest of G iff
+//   T is acyclic, every edge of T is an edge of G, no edge of G joins two
+//   trees of T (so T spans every component), and (cycle property) no non-tree
+//   edge u-v is lighter than the heaviest edge on the tree path from u to v.
+// The last check runs over a binary-lifting index on T (ancestor and max-weight
+// tables per 2^k level), so verification is O((V + E) log V) with no strings
+// or Edge objects, and equal-weight ties never count as mismatches.
+// Tree edges are matched to graph edges by (unordered endpoints, weight).
+public final class MstVerifier {
+
+    public static final class Report {
+        public final boolean valid;
+        public final String failure;          // null when valid
+        public final int treeEdges;
+        public final int components;          // of the graph
+        public final long checkedEdges;       // non-tree edges tested against the cycle property
+        public final double timeMs;
+
+        Report(String failure, int treeEdges, int components, long checkedEdges, long nanos) {
+            this.valid = failure == null;
+            this.failure = failure;
+            this.treeEdges = treeEdges;
+            this.components = components;
+            this.checkedEdges = checkedEdges;
+            this.timeMs = nanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return valid
+                    ? String.format("valid MSF: %d edges, %d components, %d non-tree edges checked", treeEdges, components, checkedEdges)
+                    : "invalid: " + failure;
+        }
+    }
+
+    private MstVerifier() { }
+
+    public static Report verify(Graph g, Graph.MSTResult r) {
+        long t0 = System.nanoTime();
+        int k = r.mstEdges.size();
+        int[] from = new int[k], to = new int[k], weight = new int[k];
+        for (int i = 0; i < k; i++) {
+            Edge e = r.mstEdges.get(i);
+            try {
+                from[i] = g.idOf(e.getFrom());
+                to[i] = g.idOf(e.getTo());
+            } catch (IllegalArgumentException ex) {
+                return new Report("tree edge " + e + ": " + ex.getMessage(), k, -1, 0, System.nanoTime() - t0);
+            }
+            weight[i] = e.getWeight();
+        }
+        return verify(g, from, to, weight, k, r.totalCost, t0);
+    }
+
+    // tree edges as vertex ids; totalCost is compared as an int sum, like MSTResult.totalCost
+    public static Report verify(Graph g, int[] from, int[] to, int[] weight, int count, int totalCost) {
+        return verify(g, from, to, weight, count, totalCost, System.nanoTime());
+    }
+
+    private static Report verify(Graph g, int[] from, int[] to, int[] weight, int count, int totalCost, long t0) {
+        CsrGraph csr = g.getCsr();
+        int n = csr.vertexCount(), m = csr.edgeCount();
+        long cost = 0;
+        for (int i = 0; i < count; i++) {
+            if (from[i] < 0 || from[i] >= n || to[i] < 0 || to[i] >= n)
+                return new Report("tree edge " + i + " has a vertex out of range", count, -1, 0, System.nanoTime() - t0);
+            cost += weight[i];
+        }
+        if ((int) cost != totalCost)
+            return new Report("tree weights sum to " + cost + ", result says " + totalCost, count, -1, 0, System.nanoTime() - t0);
+
+        // acyclic: k edges on n vertices in c trees form a forest iff k = n - c
+        PathMax paths = new PathMax(n, from, to, weight, count);
+        if (count != n - paths.trees)
+            return new Report("tree edges contain a cycle", count, -1, 0, System.nanoTime() - t0);
+
+        // every tree edge is a graph edge: the tree edge above vertex c is claimed by
+        // the first graph edge with the same endpoints and weight
+        boolean[] claimed = new boolean[n];
+        boolean[] inTree = new boolean[m];
+        for (int e = 0; e < m; e++) {
+            int u = paths.id(csr.edgeFrom(e)), v = paths.id(csr.edgeTo(e)), w = csr.edgeWeight(e);
+            int child = paths.isParentEdge(u, v, w) ? u : paths.isParentEdge(v, u, w) ? v : -1;
+            if (child >= 0 && !claimed[child]) inTree[e] = claimed[child] = true;
+        }
+        for (int c = 0; c < n; c++) {
+            if (!claimed[c] && !paths.isRoot(c)) {
+                int p = paths.parent(c);
+                return new Report("tree edge " + describe(g, paths.vertex(p), paths.vertex(c), paths.parentWeight(c)) + " is not in the graph",
+                        count, paths.trees, 0, System.nanoTime() - t0);
+            }
+        }
+
+        // spanning (no graph edge joins two trees) and the cycle property for every non-tree edge
+        long checked = 0;
+        for (int e = 0; e < m; e++) {
+            if (inTree[e]) continue;
+            int u = csr.edgeFrom(e), v = csr.edgeTo(e), w = csr.edgeWeight(e);
+            if (u == v) continue;
+            int a = paths.id(u), b = paths.id(v);
+            if (paths.root(a) != paths.root(b))
+                return new Report("graph edge " + describe(g, u, v, w) + " joins two trees: not spanning",
+                        count, paths.trees, checked, System.nanoTime() - t0);
+            checked++;
+            int max = paths.query(a, b);
+            if (max > w)
+                return new Report("non-tree edge " + describe(g, u, v, w) + " is lighter than the tree path between its ends (max " + max + ")",
+                        count, paths.trees, checked, System.nanoTime() - t0);
+        }
+        return new Report(null, count, paths.trees, checked, System.nanoTime() - t0);
+    }
+
+    private static String describe(Graph g, int u, int v, int w) {
+        return g.nameOf(u) + "-" + g.nameOf(v) + "(" + w + ")";
+    }
+
+    // Binary lifting over the forest. Vertices are renumbered in DFS preorder, so a
+    // subtree is a contiguous id range and nearby vertices share ancestor chains;
+    // the table is vertex-major, one long per level packing (2^k-th ancestor, max
+    // weight on the way), so a vertex's whole column sits in adjacent cache lines.
+    private static final class PathMax {
+        final int trees;
+        private final int[] idOf;       // original vertex -> preorder id
+        private final int[] vertexOf;   // preorder id -> original vertex
+        private final int[] depth, root;
+        private final int levels;
+        private final long[] lift;      // lift[v * levels + k]
+
+        PathMax(int n, int[] from, int[] to, int[] weight, int count) {
+            // tree adjacency in flat rows
+            int[] off = new int[n + 1];
+            for (int i = 0; i < count; i++) { off[from[i] + 1]++; off[to[i] + 1]++; }
+            for (int v = 0; v < n; v++) off[v + 1] += off[v];
+            int[] adj = new int[2 * count], adjW = new int[2 * count], next = new int[n];
+            System.arraycopy(off, 0, next, 0, n);
+            for (int i = 0; i < count; i++) {
+                int a = next[from[i]]++, b = next[to[i]]++;
+                adj[a] = to[i];   adjW[a] = weight[i];
+                adj[b] = from[i]; adjW[b] = weight[i];
+            }
+
+            // iterative DFS from every unvisited vertex: preorder ids, parent, weight to parent
+            idOf = new int[n];
+            vertexOf = new int[n];
+            depth = new int[n];
+            root = new int[n];
+            int[] parent = new int[n], parentW = new int[n], stack = new int[n];
+            Arrays.fill(idOf, -1);
+            int nextId = 0, roots = 0, maxDepth = 0;
+            for (int r = 0; r < n; r++) {
+                if (idOf[r] >= 0) continue;
+                roots++;
+                int rid = nextId++;
+                idOf[r] = rid;
+                vertexOf[rid] = r;
+                parent[rid] = rid;
+                parentW[rid] = Integer.MIN_VALUE;
+                root[rid] = rid;
+                int sp = 0;
+                stack[sp++] = r;
+                while (sp > 0) {
+                    int v = stack[--sp], vid = idOf[v];
+                    for (int a = off[v + 1] - 1; a >= off[v]; a--) {
+                        int t = adj[a];
+                        if (idOf[t] >= 0) continue;   // the parent, or a cycle edge (caught by the count check)
+                        int tid = nextId++;
+                        idOf[t] = tid;
+                        vertexOf[tid] = t;
+                        parent[tid] = vid;
+                        parentW[tid] = adjW[a];
+                        depth[tid] = depth[vid] + 1;
+                        root[tid] = rid;
+                        if (depth[tid] > maxDepth) maxDepth = depth[tid];
+                        stack[sp++] = t;
+                    }
+                }
+            }
+            trees = roots;
+
+            // ids are handed out when a vertex is discovered, so parents precede children
+            levels = 32 - Integer.numberOfLeadingZeros(Math.max(1, maxDepth));
+            lift = new long[n * levels];
+            for (int v = 0; v < n; v++) {
+                int base = v * levels;
+                lift[base] = pack(parent[v], parentW[v]);
+                for (int k = 1; k < levels; k++) {
+                    long half = lift[base + k - 1];
+                    long rest = lift[up(half) * levels + k - 1];
+                    lift[base + k] = pack(up(rest), Math.max(max(half), max(rest)));
+                }
+            }
+        }
+
+        int id(int vertex) { return idOf[vertex]; }
+        int vertex(int id) { return vertexOf[id]; }
+        int root(int v) { return root[v]; }
+        boolean isRoot(int v) { return root[v] == v; }
+        int parent(int v) { return up(lift[v * levels]); }
+        int parentWeight(int v) { return max(lift[v * levels]); }
+
+        // is (child, p, w) the tree edge above child?
+        boolean isParentEdge(int child, int p, int w) {
+            long e = lift[child * levels];
+            return root[child] != child && up(e) == p && max(e) == w;
+        }
+
+        // heaviest edge weight on the path a..b (preorder ids, same tree)
+        int query(int a, int b) {
+            int best = Integer.MIN_VALUE;
+            if (depth[a] < depth[b]) { int t = a; a = b; b = t; }
+            int diff = depth[a] - depth[b];
+            for (int k = 0; diff != 0; k++, diff >>>= 1) {
+                if ((diff & 1) != 0) {
+                    long x = lift[a * levels + k];
+                    best = Math.max(best, max(x));
+                    a = up(x);
+                }
+            }
+            if (a == b) return best;
+            for (int k = levels - 1; k >= 0; k--) {
+                long x = lift[a * levels + k], y = lift[b * levels + k];
+                if (up(x) != up(y)) {
+                    best = Math.max(best, Math.max(max(x), max(y)));
+                    a = up(x);
+                    b = up(y);
+                }
+            }
+            return Math.max(best, Math.max(max(lift[a * levels]), max(lift[b * levels])));
+        }
+
+        private static long pack(int up, int max) { return ((long) up << 32) | (max & 0xFFFFFFFFL); }
+        private static int up(long x) { return (int) (x >>> 32); }
+        private static int max(long x) { return (int) x; }
+    }
+}
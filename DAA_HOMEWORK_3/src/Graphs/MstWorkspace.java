@@ -0,0 +1,143 @@
+package Graphs;
+
+import java.util.ArrayDeque;
+import java.util.function.Function;
+
+// Preallocated primitive buffers for Graph.primInto / kruskalInto. Buffers only
+// grow (to the largest graph seen), so once a workspace has run a graph of a
+// given size, further runs of that size allocate nothing. Results are edge
+// ids into the graph's CsrGraph plus their weights, treeSize() entries each.
+//
+// Between runs only what the previous run touched is reset: the visited bits
+// of the vertices Prim reached, the heap entries still queued, and the first
+// n union-find slots; nothing is cleared in proportion to the capacity.
+// A workspace is thread-confined: use one per thread, or lease them from a Pool.
+public final class MstWorkspace {
+    // results (valid up to treeSize)
+    int[] treeEdge = new int[0];
+    int[] treeWeight = new int[0];
+    int treeSize;
+    long treeCost;
+    long operations;
+    final MstMetrics metrics = new MstMetrics();
+
+    // Prim scratch
+    IndexedDaryHeap heap = new IndexedDaryHeap(0);
+    long[] visited = new long[0];    // bitset over vertex ids
+    int[] touched = new int[0];      // vertices whose visited bit is set
+    int touchedCount;
+    int[] bestEdge = new int[0];     // edge offering the current heap key of each vertex
+
+    // Kruskal scratch
+    long[] keys = new long[0];
+    long[] tmp = new long[0];
+    final int[] count = new int[256];
+    UnionFind uf = new UnionFind(0);
+
+    private long runs;
+
+    public int treeSize() { return treeSize; }
+    public long treeCost() { return treeCost; }
+    public long operations() { return operations; }
+    public MstMetrics metrics() { return metrics; }
+    public int[] treeEdges() { return treeEdge; }
+    public int[] treeWeights() { return treeWeight; }
+
+    public long runs() { return runs; }
+    public int vertexCapacity() { return treeEdge.length; }
+    public int edgeCapacity() { return keys.length; }
+
+    // grow-only, per kernel: primInto never allocates the Kruskal sort buffers,
+    // kruskalInto never the heap or the visited bits
+    void ensurePrim(int n) {
+        ensureTree(n);
+        if (bestEdge.length < n) {
+            int cap = grow(bestEdge.length, n);
+            bestEdge = new int[cap];
+            long[] bits = new long[(cap + 63) >>> 6];
+            System.arraycopy(visited, 0, bits, 0, visited.length);
+            visited = bits;
+            int[] t = new int[cap];
+            System.arraycopy(touched, 0, t, 0, touchedCount);
+            touched = t;
+        }
+        if (heap.capacity() < n) heap = new IndexedDaryHeap(grow(heap.capacity(), n));
+        start();
+    }
+
+    void ensureKruskal(int n, int m) {
+        ensureTree(n);
+        if (uf.capacity() < n) uf = new UnionFind(grow(uf.capacity(), n));
+        if (keys.length < m) {
+            int cap = grow(keys.length, m);
+            keys = new long[cap];
+            tmp = new long[cap];
+        }
+        start();
+    }
+
+    private void ensureTree(int n) {
+        if (treeEdge.length < n) {
+            int cap = grow(treeEdge.length, n);
+            treeEdge = new int[cap];
+            treeWeight = new int[cap];
+        }
+    }
+
+    private void start() {
+        treeSize = 0;
+        treeCost = 0;
+        operations = 0;
+        metrics.reset();
+        runs++;
+    }
+
+    // O(touched): clears the visited bits and heap entries left by the last Prim run
+    void resetPrim() {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            visited[v >>> 6] = 0;       // whole word: every bit in it was touched or is already 0
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+    boolean isVisited(int v) { return (visited[v >>> 6] & (1L << v)) != 0; }
+
+    void visit(int v) {
+        visited[v >>> 6] |= 1L << v;
+        touched[touchedCount++] = v;
+    }
+
+    private static int grow(int have, int need) {
+        return Math.min(Integer.MAX_VALUE - 8, Math.max(need, have + (have >> 1)));
+    }
+
+    // Leases workspaces to whichever thread runs a job (fork/join workers or
+    // virtual threads alike); the pool only ever holds as many workspaces as
+    // jobs have run at the same time.
+    public static final class Pool {
+        private final ArrayDeque<MstWorkspace> idle = new ArrayDeque<>();
+        private int created;
+
+        public <T> T apply(Function<MstWorkspace, T> job) {
+            MstWorkspace ws = acquire();
+            try {
+                return job.apply(ws);
+            } finally {
+                release(ws);
+            }
+        }
+
+        public synchronized MstWorkspace acquire() {
+            MstWorkspace ws = idle.pollFirst();
+            if (ws != null) return ws;
+            created++;
+            return new MstWorkspace();
+        }
+
+        public synchronized void release(MstWorkspace ws) { idle.addFirst(ws); }
+
+        public synchronized int created() { return created; }
+    }
+}
@@ -0,0 +1,148 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Boruvka MST on a fork/join pool. Every round:
+//   1. scan live edges in parallel, drop edges inside one component and CAS the
+//      cheapest outgoing edge of each component into cheapest[root];
+//   2. in parallel over components, union along the chosen edge.
+// Edges are compared by (weight, edge id), the same total order Kruskal sorts by,
+// so the chosen edges never form a cycle and the tree equals kruskal()'s tree.
+final class ParallelBoruvka {
+    private static final long NONE = Long.MAX_VALUE;
+    private static final int MIN_CHUNK = 4096;
+
+    private final CsrGraph g;
+    private final ForkJoinPool pool;
+    private final ConcurrentUnionFind uf;
+    private final AtomicLongArray cheapest;   // per root: packed (weight, edge id)
+    private final int[] live;                 // live edge ids, compacted inside every chunk
+    private final int[] chunkStart;
+    private final int[] chunkLen;
+    private final int[] mstIds;
+    private final AtomicInteger mstCount = new AtomicInteger();
+    private final AtomicInteger merged = new AtomicInteger();
+    private final AtomicLong scanned = new AtomicLong();
+
+    ParallelBoruvka(CsrGraph g, ForkJoinPool pool) {
+        this.g = g;
+        this.pool = pool;
+        int n = g.vertexCount();
+        int m = g.edgeCount();
+        uf = new ConcurrentUnionFind(n);
+        cheapest = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) cheapest.set(v, NONE);
+        live = new int[m];
+        for (int e = 0; e < m; e++) live[e] = e;
+        int chunk = Math.max(MIN_CHUNK, m / (pool.getParallelism() * 4 + 1) + 1);
+        int chunks = (m + chunk - 1) / chunk;
+        chunkStart = new int[chunks];
+        chunkLen = new int[chunks];
+        for (int c = 0; c < chunks; c++) {
+            chunkStart[c] = c * chunk;
+            chunkLen[c] = Math.min(chunk, m - c * chunk);
+        }
+        mstIds = new int[Math.max(0, n - 1)];
+    }
+
+    Graph.MSTResult run(Graph owner) {
+        Graph.MSTResult res = new Graph.MSTResult();
+        int n = g.vertexCount();
+        int rounds = 0;
+        while (mstCount.get() < n - 1) {
+            pool.invoke(new ScanEdges(0, chunkStart.length));
+            merged.set(0);
+            pool.invoke(new MergeComponents(0, n));
+            rounds++;
+            if (merged.get() == 0) break; // no component has an outgoing edge left
+        }
+
+        // report in (weight, id) order: identical to kruskal()'s edge list
+        int k = mstCount.get();
+        long[] keys = new long[k];
+        for (int i = 0; i < k; i++) keys[i] = key(mstIds[i]);
+        Arrays.sort(keys);
+        for (long key : keys) {
+            int e = (int) key;
+            res.mstEdges.add(owner.edge(e));
+            res.totalCost += g.edgeWeight(e);
+        }
+        res.operations = scanned.get() + k;
+        res.metrics.edgesScanned = scanned.get();
+        res.rounds = rounds;
+        return res;
+    }
+
+    private long key(int e) { return ((long) g.edgeWeight(e) << 32) | e; }
+
+    private static void casMin(AtomicLongArray a, int i, long v) {
+        long cur;
+        while (v < (cur = a.get(i))) {
+            if (a.compareAndSet(i, cur, v)) return;
+        }
+    }
+
+    // phase 1: per chunk, filter internal edges and offer the rest to both components
+    private final class ScanEdges extends RecursiveAction {
+        private final int lo, hi;
+        ScanEdges(int lo, int hi) { this.lo = lo; this.hi = hi; }
+
+        @Override
+        protected void compute() {
+            if (hi <= lo) return;
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new ScanEdges(lo, mid), new ScanEdges(mid, hi));
+                return;
+            }
+            int start = chunkStart[lo];
+            int len = chunkLen[lo];
+            int kept = 0;
+            for (int i = start; i < start + len; i++) {
+                int e = live[i];
+                int ra = uf.find(g.edgeFrom(e));
+                int rb = uf.find(g.edgeTo(e));
+                if (ra == rb) continue;
+                live[start + kept++] = e;
+                long k = key(e);
+                casMin(cheapest, ra, k);
+                casMin(cheapest, rb, k);
+            }
+            chunkLen[lo] = kept;
+            scanned.addAndGet(len);
+        }
+    }
+
+    // phase 2: every component root merges along its cheapest edge
+    private final class MergeComponents extends RecursiveAction {
+        private final int lo, hi;
+        MergeComponents(int lo, int hi) { this.lo = lo; this.hi = hi; }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > MIN_CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new MergeComponents(lo, mid), new MergeComponents(mid, hi));
+                return;
+            }
+            int local = 0;
+            for (int v = lo; v < hi; v++) {
+                long k = cheapest.get(v);
+                if (k == NONE) continue;
+                cheapest.set(v, NONE);
+                int e = (int) k;
+                // both endpoints may pick the same edge: only the first union counts it
+                if (uf.union(g.edgeFrom(e), g.edgeTo(e))) {
+                    mstIds[mstCount.getAndIncrement()] = e;
+                    local++;
+                }
+            }
+            if (local > 0) merged.addAndGet(local);
+        }
+    }
+}
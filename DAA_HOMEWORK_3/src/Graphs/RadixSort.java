@@ -0,0 +1,122 @@
+package Graphs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// LSD radix sort for int edge weights. Each edge becomes one long key
+// ((weight - minWeight) << 32 | edge index); only the digits that actually vary
+// in the weight range are sorted, 8 bits per pass. Passes are stable and keys
+// start in index order, so ties keep input order exactly like Collections.sort.
+// Large inputs run every pass as parallel per-chunk histograms + scatter.
+public final class RadixSort {
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    private static final int CHUNK = 1 << 15;
+
+    private RadixSort() {}
+
+    // edge ids of g in (weight, id) order
+    public static int[] edgeOrder(CsrGraph g) { return edgeOrder(g, ForkJoinPool.commonPool()); }
+
+    public static int[] edgeOrder(CsrGraph g, ForkJoinPool pool) {
+        int m = g.edgeCount();
+        int[] w = new int[m];
+        for (int e = 0; e < m; e++) w[e] = g.edgeWeight(e);
+        return order(w, m, pool);
+    }
+
+    // indices 0..count-1 in (weights[i], i) order
+    public static int[] order(int[] weights, int count) { return order(weights, count, ForkJoinPool.commonPool()); }
+
+    public static int[] order(int[] weights, int count, ForkJoinPool pool) {
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, weights[i]);
+            max = Math.max(max, weights[i]);
+        }
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) keys[i] = ((long) weights[i] - min) << 32 | i;
+        int bits = count == 0 ? 0 : 64 - Long.numberOfLeadingZeros((long) max - min);
+        sortHigh(keys, bits, pool);
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) out[i] = (int) keys[i];
+        return out;
+    }
+
+    // Stable sort of keys by bits [32, 32 + bits) of each (non-negative) key.
+    public static void sortHigh(long[] keys, int bits, ForkJoinPool pool) {
+        int n = keys.length;
+        long[] src = keys, dst = new long[n];
+        boolean parallel = n >= PARALLEL_THRESHOLD && pool.getParallelism() > 1;
+        for (int shift = 32; shift < 32 + bits; shift += DIGIT_BITS) {
+            if (parallel) parallelPass(src, dst, shift, pool);
+            else pass(src, dst, shift);
+            long[] t = src; src = dst; dst = t;
+        }
+        if (src != keys) System.arraycopy(src, 0, keys, 0, n);
+    }
+
+    // Sequential, allocation-free variant for keys[0..n): tmp (length >= n) and
+    // count (length >= 256) are caller-owned scratch, e.g. from an MstWorkspace.
+    public static void sortHigh(long[] keys, long[] tmp, int[] count, int n, int bits) {
+        long[] src = keys, dst = tmp;
+        for (int shift = 32; shift < 32 + bits; shift += DIGIT_BITS) {
+            pass(src, dst, n, shift, count);
+            long[] t = src; src = dst; dst = t;
+        }
+        if (src != keys) System.arraycopy(src, 0, keys, 0, n);
+    }
+
+    private static void pass(long[] src, long[] dst, int shift) {
+        pass(src, dst, src.length, shift, new int[RADIX]);
+    }
+
+    private static void pass(long[] src, long[] dst, int n, int shift, int[] count) {
+        java.util.Arrays.fill(count, 0, RADIX, 0);
+        for (int i = 0; i < n; i++) count[(int) (src[i] >>> shift) & (RADIX - 1)]++;
+        for (int d = 0, sum = 0; d < RADIX; d++) { int c = count[d]; count[d] = sum; sum += c; }
+        for (int i = 0; i < n; i++) { long k = src[i]; dst[count[(int) (k >>> shift) & (RADIX - 1)]++] = k; }
+    }
+
+    // per-chunk histograms -> digit-major prefix sums -> per-chunk stable scatter
+    private static void parallelPass(long[] src, long[] dst, int shift, ForkJoinPool pool) {
+        int chunks = (src.length + CHUNK - 1) / CHUNK;
+        int[][] hist = new int[chunks][RADIX];
+        pool.invoke(new Chunks(src, dst, shift, hist, false, 0, chunks));
+        int sum = 0;
+        for (int d = 0; d < RADIX; d++) {
+            for (int c = 0; c < chunks; c++) { int v = hist[c][d]; hist[c][d] = sum; sum += v; }
+        }
+        pool.invoke(new Chunks(src, dst, shift, hist, true, 0, chunks));
+    }
+
+    private static final class Chunks extends RecursiveAction {
+        private final long[] src, dst;
+        private final int shift, lo, hi;
+        private final int[][] hist;
+        private final boolean scatter;
+
+        Chunks(long[] src, long[] dst, int shift, int[][] hist, boolean scatter, int lo, int hi) {
+            this.src = src; this.dst = dst; this.shift = shift; this.hist = hist;
+            this.scatter = scatter; this.lo = lo; this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Chunks(src, dst, shift, hist, scatter, lo, mid),
+                          new Chunks(src, dst, shift, hist, scatter, mid, hi));
+                return;
+            }
+            int from = lo * CHUNK, to = Math.min(src.length, from + CHUNK);
+            int[] h = hist[lo];
+            if (scatter) {
+                for (int i = from; i < to; i++) dst[h[(int) (src[i] >>> shift) & (RADIX - 1)]++] = src[i];
+            } else {
+                for (int i = from; i < to; i++) h[(int) (src[i] >>> shift) & (RADIX - 1)]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Minimum spanning forest in two parallel passes:
+//   1. label connected components: edge chunks union into a ConcurrentUnionFind
+//      and stop as soon as a single component is left;
+//   2. bucket vertices and the radix-sorted edge order by component (stable,
+//      so every bucket stays sorted) and run Kruskal on every component
+//      concurrently, each over its own edges and local vertex ids, stopping
+//      once that component has size - 1 tree edges.
+// Edges are ordered by (weight, edge id), so the forest equals kruskal()'s.
+// Components are numbered by their smallest vertex id.
+final class SpanningForest {
+    private static final int MIN_CHUNK = 4096;
+
+    private final CsrGraph g;
+    private final ForkJoinPool pool;
+    private final AtomicInteger remaining;    // components left during labeling
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong finds = new AtomicLong();
+    private final AtomicLong unions = new AtomicLong();
+    private final AtomicLong pathLength = new AtomicLong();
+
+    // filled by bucket(): component c owns vertexStart[c]..vertexStart[c+1] and edgeStart[c]..edgeStart[c+1]
+    private int components;
+    private int[] componentOf, local, vertexStart, edgeStart;
+    private int[] edges;                      // per component: edge ids in (weight, id) order
+    private int[] tree;                       // component c: tree edges at vertexStart[c] - c ..
+    private long[] cost;
+
+    SpanningForest(CsrGraph g, ForkJoinPool pool) {
+        this.g = g;
+        this.pool = pool;
+        remaining = new AtomicInteger(g.vertexCount());
+    }
+
+    Graph.MSFResult run(Graph owner) {
+        Graph.MSFResult res = new Graph.MSFResult();
+        int n = g.vertexCount(), m = g.edgeCount();
+        long t0 = System.nanoTime();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        if (n > 1) pool.invoke(new Label(uf, 0, m));
+        bucket(uf);
+        long t1 = System.nanoTime();
+        if (components > 0) pool.invoke(new Solve(0, components));
+        long t2 = System.nanoTime();
+
+        // component order, each component in (weight, id) order
+        res.mstEdges = new ArrayList<>(n - components);
+        long total = 0;
+        for (int e : tree) res.mstEdges.add(owner.edge(e));
+        for (long c : cost) total += c;
+        long t3 = System.nanoTime();
+
+        res.totalCost = (int) total;
+        res.components = components;
+        res.componentOf = componentOf;
+        res.componentCost = cost;
+        res.vertexStart = vertexStart;
+        res.timeMs = (t3 - t0) / 1_000_000.0;
+        res.operations = scanned.get() + tree.length;
+        res.ufFinds = finds.get();
+        res.ufUnions = unions.get();
+        res.ufPathLength = pathLength.get();
+        MstMetrics mm = res.metrics;
+        mm.buildNanos = t1 - t0;
+        mm.unionFindNanos = t2 - t1;
+        mm.assemblyNanos = t3 - t2;
+        mm.edgesScanned = scanned.get();
+        mm.ufFinds = res.ufFinds;
+        mm.ufUnions = res.ufUnions;
+        mm.ufPathLength = res.ufPathLength;
+        return res;
+    }
+
+    // --- phase 1: component labels ---
+    private final class Label extends RecursiveAction {
+        private final ConcurrentUnionFind uf;
+        private final int lo, hi;
+        Label(ConcurrentUnionFind uf, int lo, int hi) { this.uf = uf; this.lo = lo; this.hi = hi; }
+
+        @Override
+        protected void compute() {
+            if (remaining.get() == 1) return;
+            if (hi - lo > MIN_CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Label(uf, lo, mid), new Label(uf, mid, hi));
+                return;
+            }
+            int e = lo;
+            for (; e < hi; e++) {
+                if (uf.union(g.edgeFrom(e), g.edgeTo(e)) && remaining.decrementAndGet() == 1) { e++; break; }
+            }
+            scanned.addAndGet(e - lo);
+        }
+    }
+
+    // dense component ids by smallest vertex, then counting sort of vertices and edges
+    private void bucket(ConcurrentUnionFind uf) {
+        int n = g.vertexCount(), m = g.edgeCount();
+        componentOf = new int[n];
+        local = new int[n];
+        int[] idOfRoot = new int[n];
+        Arrays.fill(idOfRoot, -1);
+        int c = 0;
+        for (int v = 0; v < n; v++) {
+            int r = uf.find(v);
+            if (idOfRoot[r] < 0) idOfRoot[r] = c++;
+            componentOf[v] = idOfRoot[r];
+        }
+        components = c;
+
+        vertexStart = new int[c + 1];
+        edgeStart = new int[c + 1];
+        for (int v = 0; v < n; v++) vertexStart[componentOf[v] + 1]++;
+        for (int e = 0; e < m; e++) {
+            int a = g.edgeFrom(e);
+            if (a != g.edgeTo(e)) edgeStart[componentOf[a] + 1]++;   // self-loops never enter a tree
+        }
+        for (int i = 0; i < c; i++) {
+            vertexStart[i + 1] += vertexStart[i];
+            edgeStart[i + 1] += edgeStart[i];
+        }
+        int[] fill = Arrays.copyOf(vertexStart, c);
+        for (int v = 0; v < n; v++) {
+            int k = componentOf[v];
+            local[v] = fill[k]++ - vertexStart[k];
+        }
+        int[] sorted = RadixSort.edgeOrder(g, pool);
+        edges = new int[edgeStart[c]];
+        fill = Arrays.copyOf(edgeStart, c);
+        for (int e : sorted) {
+            int a = g.edgeFrom(e);
+            if (a != g.edgeTo(e)) edges[fill[componentOf[a]]++] = e;
+        }
+        tree = new int[n - c];
+        cost = new long[c];
+    }
+
+    // --- phase 2: Kruskal per component ---
+    // splits component ranges until a task holds at most MIN_CHUNK edges (or a single component)
+    private final class Solve extends RecursiveAction {
+        private final int lo, hi;
+        Solve(int lo, int hi) { this.lo = lo; this.hi = hi; }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1 && edgeStart[hi] - edgeStart[lo] > MIN_CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Solve(lo, mid), new Solve(mid, hi));
+                return;
+            }
+            long scannedHere = 0, f = 0, u = 0, p = 0;
+            for (int c = lo; c < hi; c++) {
+                int size = vertexStart[c + 1] - vertexStart[c];
+                if (size == 1) continue;
+                int from = edgeStart[c], to = edgeStart[c + 1];
+                UnionFind uf = new UnionFind(size);
+                int out = vertexStart[c] - c, need = size - 1, found = 0;
+                long sum = 0;
+                int i = from;
+                for (; i < to && found < need; i++) {
+                    int e = edges[i];
+                    if (uf.union(local[g.edgeFrom(e)], local[g.edgeTo(e)])) {
+                        tree[out + found++] = e;
+                        sum += g.edgeWeight(e);
+                    }
+                }
+                cost[c] = sum;
+                scannedHere += i - from;
+                f += uf.finds();
+                u += uf.unions();
+                p += uf.pathLength();
+            }
+            scanned.addAndGet(scannedHere);
+            finds.addAndGet(f);
+            unions.addAndGet(u);
+            pathLength.addAndGet(p);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+// Semi-streaming minimum spanning forest over a fixed vertex set: edges arrive
+// one batch at a time, in any order, and are never stored. The current forest
+// lives in a link-cut tree with at most V-1 edge slots, so memory is O(V) no
+// matter how long the feed runs. An edge joining two trees is linked; an edge
+// closing a cycle evicts the heaviest edge on that cycle if it is lighter,
+// otherwise it is dropped (the cycle property). On equal weights the edge
+// already in the forest stays. O(log V) amortized per edge.
+// Updates and snapshots are synchronized, so a reporting thread can take
+// snapshots while another thread feeds batches.
+public final class StreamingMSF {
+    private final int vertexCount;
+    private final LinkCutTree lct;     // vertex v is node v, slot s is node vertexCount + s
+
+    private final int[] from, to, weight;
+    private final boolean[] used;
+    private final int[] free;          // stack of unused slots
+    private int freeCount;
+
+    private long totalCost;
+    private long edgesSeen;
+    private long replacements;
+    private long nanos;
+
+    public StreamingMSF(int vertexCount) {
+        if (vertexCount < 0) throw new IllegalArgumentException("vertexCount must be >= 0");
+        this.vertexCount = vertexCount;
+        int slots = Math.max(0, vertexCount - 1);
+        lct = new LinkCutTree(vertexCount + slots);
+        from = new int[slots];
+        to = new int[slots];
+        weight = new int[slots];
+        used = new boolean[slots];
+        free = new int[slots];
+        for (int s = 0; s < slots; s++) free[s] = slots - 1 - s;
+        freeCount = slots;
+    }
+
+    public synchronized void accept(int u, int v, int w) {
+        long t0 = System.nanoTime();
+        offer(u, v, w);
+        nanos += System.nanoTime() - t0;
+    }
+
+    public synchronized void acceptBatch(int[] u, int[] v, int[] w, int count) {
+        long t0 = System.nanoTime();
+        for (int i = 0; i < count; i++) offer(u[i], v[i], w[i]);
+        nanos += System.nanoTime() - t0;
+    }
+
+    public synchronized long edgesSeen() { return edgesSeen; }
+    public synchronized long replacements() { return replacements; }
+    public synchronized long totalCost() { return totalCost; }
+    public synchronized int treeEdgeCount() { return from.length - freeCount; }
+
+    // snapshot with vertex ids as names
+    public Graph.MSTResult snapshot() { return snapshot(String::valueOf); }
+
+    // current forest in (weight, slot) order; operations = edges seen, timeMs = time spent in updates
+    public synchronized Graph.MSTResult snapshot(IntFunction<String> names) {
+        long[] keys = new long[treeEdgeCount()];
+        int k = 0;
+        for (int s = 0; s < used.length; s++) if (used[s]) keys[k++] = ((long) weight[s] << 32) | s;
+        Arrays.sort(keys);
+        Graph.MSTResult res = new Graph.MSTResult();
+        for (long key : keys) {
+            int s = (int) key;
+            res.mstEdges.add(new Edge(names.apply(from[s]), names.apply(to[s]), weight[s]));
+        }
+        res.totalCost = (int) totalCost;   // int like every MSTResult; totalCost() has the exact sum
+        res.operations = edgesSeen;
+        res.timeMs = nanos / 1_000_000.0;
+        return res;
+    }
+
+    private void offer(int u, int v, int w) {
+        if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount)
+            throw new IllegalArgumentException("Vertex id out of range: " + u + "-" + v);
+        edgesSeen++;
+        if (u == v) return;
+        int slot;
+        if (!lct.connected(u, v)) {
+            slot = free[--freeCount];
+        } else {
+            slot = lct.pathMax(u, v) - vertexCount;
+            if (weight[slot] <= w) return;
+            // evict the heaviest cycle edge and reuse its slot
+            int node = vertexCount + slot;
+            lct.cut(from[slot], node);
+            lct.cut(node, to[slot]);
+            totalCost -= weight[slot];
+            replacements++;
+        }
+        int node = vertexCount + slot;
+        from[slot] = u;
+        to[slot] = v;
+        weight[slot] = w;
+        used[slot] = true;
+        lct.reset(node, w);
+        lct.link(u, node);
+        lct.link(node, v);
+        totalCost += w;
+    }
+}
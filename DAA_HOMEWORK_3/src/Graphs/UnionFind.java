@@ -0,0 +1,74 @@
+package Graphs;
+
+// Disjoint sets over dense int ids: union by rank + iterative path halving,
+// so find never recurses and the amortized cost stays near-constant.
+// Counters record how many finds/unions ran and how many parent links were
+// followed in total (pathLength / finds = average path length).
+public final class UnionFind {
+    private final int[] parent;
+    private final byte[] rank;   // rank <= log2(n) < 32
+    private int count;           // sets in use: 0..count-1 (<= capacity, see reset)
+    private int components;
+
+    private long finds;
+    private long unions;
+    private long pathLength;
+
+    public UnionFind(int n) {
+        parent = new int[n];
+        rank = new byte[n];
+        for (int v = 0; v < n; v++) parent[v] = v;
+        count = n;
+        components = n;
+    }
+
+    // reuse the arrays for n <= capacity() singletons; O(n), counters restart at zero
+    public void reset(int n) {
+        if (n > parent.length) throw new IllegalArgumentException("reset(" + n + ") exceeds capacity " + parent.length);
+        for (int v = 0; v < n; v++) { parent[v] = v; rank[v] = 0; }
+        count = n;
+        components = n;
+        finds = unions = pathLength = 0;
+    }
+
+    public int find(int v) {
+        finds++;
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]]; // halving: point to grandparent
+            v = parent[v];
+            pathLength++;
+        }
+        return v;
+    }
+
+    // read-only find (no halving, not counted): safe for concurrent readers
+    // as long as no union runs at the same time
+    int root(int v) {
+        while (parent[v] != v) v = parent[v];
+        return v;
+    }
+
+    // returns false when a and b were already in the same set
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return false;
+        if (rank[ra] < rank[rb]) { int t = ra; ra = rb; rb = t; }
+        parent[rb] = ra;
+        if (rank[ra] == rank[rb]) rank[ra]++;
+        unions++;
+        components--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) { return find(a) == find(b); }
+
+    public int size() { return count; }
+    public int capacity() { return parent.length; }
+    public int components() { return components; }
+
+    public long finds() { return finds; }
+    public long unions() { return unions; }
+    public long pathLength() { return pathLength; }
+    public double averagePathLength() { return finds == 0 ? 0.0 : (double) pathLength / finds; }
+}
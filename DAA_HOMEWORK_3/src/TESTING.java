@@ -1,237 +1,340 @@
+import Graphs.BatchRunner;
+import Graphs.Edge;
+import Graphs.Graph;
+import Graphs.GraphJsonReader;
+import Graphs.Json;
+import Graphs.MstCache;
+import Graphs.MstMetrics;
+import Graphs.MstVerifier;
+import Graphs.MstWorkspace;
+
 import java.io.*;
 import java.util.*;
 
 public class TESTING {
 
+    // -Dtesting.workspace=true runs both algorithms on the CSR graph with pooled,
+    // reusable workspaces instead of rebuilding String maps and queues per graph
+    private static final boolean WORKSPACE = Boolean.getBoolean("testing.workspace");
+    private static final MstWorkspace.Pool WORKSPACES = new MstWorkspace.Pool();
+
+    // -Dmst.cache=<entries> reuses results of graphs seen before (same nodes and edges);
+    // -Dmst.cache.dir=<dir> keeps them on disk across runs as well
+    private static final MstCache CACHE = MstCache.fromSystemProperties();
+
     public static void main(String[] args) {
         String inputPath = "C:\\Users\\musee\\Documents\\github\\DAA-HOMEWORK-3\\DAA_HOMEWORK_3\\src\\ass_3_input.json";
         String outputJsonPath = "C:\\Users\\musee\\Documents\\github\\DAA-HOMEWORK-3\\DAA_HOMEWORK_3\\src\\ass_3_output.json";
         String csvPath = "C:\\Users\\musee\\Documents\\github\\DAA-HOMEWORK-3\\DAA_HOMEWORK_3\\src\\PaK.csv";
 
-        try {
-            File inFile = new File(inputPath);
-            if (!inFile.exists()) {
-                System.err.println("Input file not found: " + inputPath);
+        File inFile = new File(inputPath);
+        if (!inFile.exists()) {
+            System.err.println("Input file not found: " + inputPath);
+            return;
+        }
+
+        // Prepare CSV file: if not exists, write header
+        File csvFile = new File(csvPath);
+        String header = "graph_id,vertices,edges,prim_total,kruskal_total,prim_time_ms,kruskal_time_ms,prim_ops,kruskal_ops,cost_equal,prim_verified,kruskal_verified,prim_cached,kruskal_cached,"
+                + MstMetrics.csvHeader("prim") + "," + MstMetrics.csvHeader("kruskal");
+        // a file from an older column layout is moved aside, never appended to
+        if (csvFile.exists() && !header.equals(firstLine(csvFile))) {
+            File old = rotate(csvFile);
+            if (old == null) {
+                System.err.println("Error: " + csvPath + " has a different header and could not be moved aside");
                 return;
             }
+            System.err.println("Warning: " + csvPath + " had a different header; moved to " + old.getName());
+        }
+        boolean needHeader = !csvFile.exists();
 
-            String json = new String(java.nio.file.Files.readAllBytes(inFile.toPath()));
-            List<Map<String, Object>> graphs = extractGraphs(json);
-
-            // Prepare JSON output builder
-            StringBuilder outJson = new StringBuilder();
-            outJson.append("{\n  \"results\": [\n");
-
-            // Prepare CSV file: if not exists, write header
-            File csvFile = new File(csvPath);
-            boolean needHeader = !csvFile.exists();
-            BufferedWriter csvWriter = new BufferedWriter(new FileWriter(csvFile, true)); // append mode
+        // graphs are streamed one at a time and run concurrently; results are written in input order
+        try (GraphJsonReader reader = new GraphJsonReader(new FileInputStream(inFile));
+             BufferedWriter jsonWriter = new BufferedWriter(new FileWriter(outputJsonPath));
+             BufferedWriter csvWriter = new BufferedWriter(new FileWriter(csvFile, true))) { // append mode
             if (needHeader) {
-                String header = "graph_id,vertices,edges,prim_total,kruskal_total,prim_time_ms,kruskal_time_ms,prim_ops,kruskal_ops,cost_equal,structure_equal";
                 csvWriter.write(header);
                 csvWriter.newLine();
                 csvWriter.flush();
             }
+            jsonWriter.write("{\n  \"results\": [\n");
 
-            for (int i = 0; i < graphs.size(); i++) {
-                Map<String, Object> g = graphs.get(i);
-                int id = (int) g.get("id");
-                @SuppressWarnings("unchecked")
-                List<String> nodes = (List<String>) g.get("nodes");
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> edgeMaps = (List<Map<String, Object>>) g.get("raw_edges");
-
-                // Build edge lists for kruskal_algorithm.Edge and prim_algorithm.Edge
-                List<kruskal_algorithm.Edge> kruskalEdges = new ArrayList<>();
-                List<prim_algorithm.Edge> primEdgesList = new ArrayList<>(); // flatten list for graph creation
-                for (Map<String, Object> em : edgeMaps) {
-                    String from = (String) em.get("from");
-                    String to = (String) em.get("to");
-                    int w = (int) em.get("weight");
-                    // create edges for kruskal
-                    kruskalEdges.add(new kruskal_algorithm.Edge(from, to, w));
-                    // create edges for prim adjacency lists later (we'll create prim_algorithm.Edge objects)
-                    primEdgesList.add(new prim_algorithm.Edge(from, to, w));
-                }
-
-                // Build adjacency list for Prim (Map<String, List<prim_algorithm.Edge>>)
-                Map<String, List<prim_algorithm.Edge>> adj = new HashMap<>();
-                for (String n : nodes) adj.put(n, new ArrayList<>());
-                for (prim_algorithm.Edge e : primEdgesList) {
-                    adj.get(e.from).add(new prim_algorithm.Edge(e.from, e.to, e.weight));
-                    adj.get(e.to).add(new prim_algorithm.Edge(e.to, e.from, e.weight));
-                }
-
-                // Run Prim (returns prim_algorithm.MSTResult)
-                prim_algorithm.MSTResult primResult = prim_algorithm.prim(adj, nodes);
-
-                // Run Kruskal (returns Map<String,Object>)
-                Map<String, Object> kruskalResult = kruskal_algorithm.kruskalMST(nodes, kruskalEdges);
-                @SuppressWarnings("unchecked")
-                List<kruskal_algorithm.Edge> kruskalMstEdges = (List<kruskal_algorithm.Edge>) kruskalResult.get("mst_edges");
-                int kruskalTotal = (int) kruskalResult.get("total_cost");
-                int kruskalOps = (int) kruskalResult.get("operations_count");
-                double kruskalTime = ((Number) kruskalResult.get("execution_time_ms")).doubleValue();
-                int kruskalVertices = (int) kruskalResult.get("vertices");
-                int kruskalEdgesCount = (int) kruskalResult.get("edges");
-
-                // Compare costs
-                boolean costEqual = primResult.totalCost == kruskalTotal;
-
-                // Compare structures: compare sets of string representations (order-independent)
-                Set<String> primSet = new HashSet<>();
-                for (prim_algorithm.Edge e : primResult.edges) {
-                    primSet.add(edgeToStringKey(e.from, e.to, e.weight));
-                }
-                Set<String> kruskalSet = new HashSet<>();
-                for (kruskal_algorithm.Edge e : kruskalMstEdges) {
-                    kruskalSet.add(edgeToStringKey(e.from, e.to, e.weight));
-                }
-                boolean structureEqual = primSet.equals(kruskalSet);
-
-                // Build JSON block for this graph
-                outJson.append("    {\n");
-                outJson.append("      \"graph_id\": ").append(id).append(",\n");
-                outJson.append("      \"input_stats\": {\"vertices\": ").append(nodes.size()).append(", \"edges\": ").append(edgeMaps.size()).append("},\n");
-
-                // Prim block
-                outJson.append("      \"prim\": {\n");
-                outJson.append("        \"mst_edges\": [\n");
-                for (int j = 0; j < primResult.edges.size(); j++) {
-                    prim_algorithm.Edge e = primResult.edges.get(j);
-                    outJson.append("          {\"from\": \"").append(e.from).append("\", \"to\": \"").append(e.to).append("\", \"weight\": ").append(e.weight).append("}");
-                    if (j < primResult.edges.size() - 1) outJson.append(",");
-                    outJson.append("\n");
-                }
-                outJson.append("        ],\n");
-                outJson.append("        \"total_cost\": ").append(primResult.totalCost).append(",\n");
-                outJson.append("        \"operations_count\": ").append(primResult.operationsCount).append(",\n");
-                outJson.append("        \"execution_time_ms\": ").append(String.format("%.2f", primResult.execTimeMs)).append("\n");
-                outJson.append("      },\n");
-
-                // Kruskal block
-                outJson.append("      \"kruskal\": {\n");
-                outJson.append("        \"mst_edges\": [\n");
-                for (int j = 0; j < kruskalMstEdges.size(); j++) {
-                    kruskal_algorithm.Edge e = kruskalMstEdges.get(j);
-                    outJson.append("          {\"from\": \"").append(e.from).append("\", \"to\": \"").append(e.to).append("\", \"weight\": ").append(e.weight).append("}");
-                    if (j < kruskalMstEdges.size() - 1) outJson.append(",");
-                    outJson.append("\n");
-                }
-                outJson.append("        ],\n");
-                outJson.append("        \"total_cost\": ").append(kruskalTotal).append(",\n");
-                outJson.append("        \"operations_count\": ").append(kruskalOps).append(",\n");
-                outJson.append("        \"execution_time_ms\": ").append(String.format("%.2f", kruskalTime)).append("\n");
-                outJson.append("      },\n");
-
-                // Comparison block
-                outJson.append("      \"comparison\": {\n");
-                outJson.append("        \"cost_equal\": ").append(costEqual).append(",\n");
-                outJson.append("        \"structure_equal\": ").append(structureEqual).append("\n");
-                outJson.append("      }\n");
-
-                outJson.append("    }");
-                if (i < graphs.size() - 1) outJson.append(",");
-                outJson.append("\n");
-
-                // Append CSV row
-                String csvRow = buildCsvRow(id, nodes.size(), edgeMaps.size(),
-                        primResult.totalCost, kruskalTotal,
-                        primResult.execTimeMs, kruskalTime,
-                        primResult.operationsCount, kruskalOps,
-                        costEqual, structureEqual);
-                csvWriter.write(csvRow);
-                csvWriter.newLine();
-                csvWriter.flush();
-            }
-
-            outJson.append("  ]\n}\n");
+            int[] written = {0};
+            BatchRunner<Verified<prim_algorithm.MSTResult>, Verified<Map<String, Object>>> runner = BatchRunner.fromSystemProperties();
+            runner.run(reader, TESTING::runPrim, TESTING::runKruskal, (entry, primResult, kruskalResult) -> {
+                if (written[0]++ > 0) jsonWriter.write(",\n");
+                writeResult(entry, primResult, kruskalResult, jsonWriter, csvWriter);
+            });
 
-            // Write JSON output
-            try (BufferedWriter jsonWriter = new BufferedWriter(new FileWriter(outputJsonPath))) {
-                jsonWriter.write(outJson.toString());
-            }
-
-            csvWriter.close();
+            if (written[0] > 0) jsonWriter.write("\n");
+            jsonWriter.write("  ]\n}\n");
 
             System.out.println("Done. JSON saved to: " + outputJsonPath);
             System.out.println("CSV appended at: " + csvPath);
+            if (CACHE != null) System.out.println(CACHE);
 
         } catch (Exception ex) {
             ex.printStackTrace();
         }
     }
 
-    // Helper: make canonical undirected edge key so A-B and B-A map same
-    private static String edgeToStringKey(String a, String b, int w) {
-        if (a.compareTo(b) <= 0) return a + "-" + b + ":" + w;
-        else return b + "-" + a + ":" + w;
+    // a job's result plus its certificate from MstVerifier; cached results carry
+    // the timings and metrics of the run that stored them, so rows are marked
+    static final class Verified<T> {
+        final T result;
+        final MstVerifier.Report report;
+        final boolean cached;
+
+        Verified(T result, MstVerifier.Report report, boolean cached) {
+            this.result = result;
+            this.report = report;
+            this.cached = cached;
+        }
+    }
+
+    // stored result for this graph, or null when there is no cache or no entry yet
+    private static Graph.MSTResult cached(Graph graph, String algorithm) {
+        return CACHE == null ? null : CACHE.get(graph.contentHash(), algorithm);
+    }
+
+    private static void store(Graph graph, String algorithm, Graph.MSTResult result) {
+        if (CACHE != null) CACHE.put(graph.contentHash(), algorithm, result);
+    }
+
+    // Prim job: served from the cache when the same graph was solved before.
+    // Every result is verified, cache hits included.
+    private static Verified<prim_algorithm.MSTResult> runPrim(GraphJsonReader.Entry entry) {
+        Graph.MSTResult hit = cached(entry.graph, "prim");
+        prim_algorithm.MSTResult r;
+        if (hit != null) {
+            r = toPrimResult(hit);
+        } else {
+            r = computePrim(entry.graph);
+            store(entry.graph, "prim", fromPrimResult(r));
+        }
+        addParse(r.metrics, entry);
+        return new Verified<>(r, MstVerifier.verify(entry.graph, fromPrimResult(r)), hit != null);
+    }
+
+    // build the String adjacency lists prim_algorithm expects and run it
+    private static prim_algorithm.MSTResult computePrim(Graph graph) {
+        if (WORKSPACE) return toPrimResult(WORKSPACES.apply(graph::prim));
+        long t0 = System.nanoTime();
+        List<String> nodes = graph.getNodes();
+        Map<String, List<prim_algorithm.Edge>> adj = new HashMap<>();
+        for (String n : nodes) adj.put(n, new ArrayList<>());
+        for (Edge e : graph.getEdges()) {
+            adj.get(e.getFrom()).add(new prim_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+            adj.get(e.getTo()).add(new prim_algorithm.Edge(e.getTo(), e.getFrom(), e.getWeight()));
+        }
+        long built = System.nanoTime() - t0;
+        prim_algorithm.MSTResult r = prim_algorithm.prim(adj, nodes);
+        r.metrics.buildNanos += built;
+        r.execTimeMs += built / 1_000_000.0;   // timeMs covers the whole call, input conversion included
+        r.metrics.publish("prim_algorithm.prim", graph.vertexCount(), graph.edgeCount());
+        return r;
+    }
+
+    // Kruskal job: served from the cache when the same graph was solved before.
+    // Every result is verified, cache hits included.
+    private static Verified<Map<String, Object>> runKruskal(GraphJsonReader.Entry entry) {
+        Graph.MSTResult hit = cached(entry.graph, "kruskal");
+        Map<String, Object> r;
+        if (hit != null) {
+            r = toKruskalResult(hit);
+        } else {
+            r = computeKruskal(entry.graph);
+            store(entry.graph, "kruskal", fromKruskalResult(r));
+        }
+        addParse((MstMetrics) r.get("metrics"), entry);
+        return new Verified<>(r, MstVerifier.verify(entry.graph, fromKruskalResult(r)), hit != null);
+    }
+
+    // flat edge list for kruskal_algorithm
+    private static Map<String, Object> computeKruskal(Graph graph) {
+        if (WORKSPACE) return toKruskalResult(WORKSPACES.apply(graph::kruskal));
+        long t0 = System.nanoTime();
+        List<kruskal_algorithm.Edge> kruskalEdges = new ArrayList<>(graph.edgeCount());
+        for (Edge e : graph.getEdges()) kruskalEdges.add(new kruskal_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+        long built = System.nanoTime() - t0;
+        Map<String, Object> r = kruskal_algorithm.kruskalMST(graph.getNodes(), kruskalEdges);
+        MstMetrics m = (MstMetrics) r.get("metrics");
+        m.buildNanos += built;
+        r.put("execution_time_ms", ((Number) r.get("execution_time_ms")).doubleValue() + built / 1_000_000.0);
+        m.publish("kruskal_algorithm.kruskalMST", graph.vertexCount(), graph.edgeCount());
+        return r;
+    }
+
+    // parsing and building the graph is shared by both jobs; each record carries it
+    private static void addParse(MstMetrics m, GraphJsonReader.Entry entry) {
+        m.parseNanos = entry.parseNanos;
+        m.buildNanos += entry.buildNanos;
+    }
+
+    // --- conversions between Graph.MSTResult and the standalone result shapes ---
+    private static prim_algorithm.MSTResult toPrimResult(Graph.MSTResult r) {
+        prim_algorithm.MSTResult out = new prim_algorithm.MSTResult();
+        for (Edge e : r.mstEdges) out.edges.add(new prim_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+        out.totalCost = r.totalCost;
+        out.operationsCount = r.operations;
+        out.execTimeMs = r.timeMs;
+        out.metrics = r.metrics;
+        return out;
+    }
+
+    private static Graph.MSTResult fromPrimResult(prim_algorithm.MSTResult r) {
+        Graph.MSTResult out = new Graph.MSTResult();
+        for (prim_algorithm.Edge e : r.edges) out.mstEdges.add(new Edge(e.from, e.to, e.weight));
+        out.totalCost = r.totalCost;
+        out.operations = r.operationsCount;
+        out.timeMs = r.execTimeMs;
+        out.metrics = r.metrics;
+        return out;
+    }
+
+    private static Map<String, Object> toKruskalResult(Graph.MSTResult r) {
+        List<kruskal_algorithm.Edge> mst = new ArrayList<>(r.mstEdges.size());
+        for (Edge e : r.mstEdges) mst.add(new kruskal_algorithm.Edge(e.getFrom(), e.getTo(), e.getWeight()));
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mst_edges", mst);
+        out.put("total_cost", r.totalCost);
+        out.put("operations_count", r.operations);
+        out.put("execution_time_ms", r.timeMs);
+        out.put("metrics", r.metrics);
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Graph.MSTResult fromKruskalResult(Map<String, Object> r) {
+        Graph.MSTResult out = new Graph.MSTResult();
+        for (kruskal_algorithm.Edge e : (List<kruskal_algorithm.Edge>) r.get("mst_edges"))
+            out.mstEdges.add(new Edge(e.from, e.to, e.weight));
+        out.totalCost = (int) r.get("total_cost");
+        out.operations = ((Number) r.get("operations_count")).longValue();
+        out.timeMs = ((Number) r.get("execution_time_ms")).doubleValue();
+        out.metrics = (MstMetrics) r.get("metrics");
+        return out;
+    }
+
+    // Compare both results and write one JSON block + one CSV row
+    private static void writeResult(GraphJsonReader.Entry entry, Verified<prim_algorithm.MSTResult> prim,
+                                    Verified<Map<String, Object>> kruskal,
+                                    BufferedWriter jsonWriter, BufferedWriter csvWriter) throws IOException {
+        int id = entry.id;
+        Graph graph = entry.graph;
+        prim_algorithm.MSTResult primResult = prim.result;
+        Map<String, Object> kruskalResult = kruskal.result;
+        @SuppressWarnings("unchecked")
+        List<kruskal_algorithm.Edge> kruskalMstEdges = (List<kruskal_algorithm.Edge>) kruskalResult.get("mst_edges");
+        int kruskalTotal = (int) kruskalResult.get("total_cost");
+        long kruskalOps = ((Number) kruskalResult.get("operations_count")).longValue();
+        MstMetrics kruskalMetrics = (MstMetrics) kruskalResult.get("metrics");
+        double kruskalTime = ((Number) kruskalResult.get("execution_time_ms")).doubleValue();
+
+        // Compare costs
+        boolean costEqual = primResult.totalCost == kruskalTotal;
+
+        // Each tree is certified on its own (cycle property), so equal-weight ties never count as a mismatch
+        boolean primValid = prim.report.valid;
+        boolean kruskalValid = kruskal.report.valid;
+
+        // Build JSON block for this graph
+        StringBuilder outJson = new StringBuilder();
+        outJson.append("    {\n");
+        outJson.append("      \"graph_id\": ").append(id).append(",\n");
+        outJson.append("      \"input_stats\": {\"vertices\": ").append(graph.vertexCount()).append(", \"edges\": ").append(graph.edgeCount()).append("},\n");
+
+        // Prim block
+        outJson.append("      \"prim\": {\n");
+        outJson.append("        \"mst_edges\": [\n");
+        for (int j = 0; j < primResult.edges.size(); j++) {
+            prim_algorithm.Edge e = primResult.edges.get(j);
+            outJson.append("          {\"from\": ").append(Json.quote(e.from)).append(", \"to\": ").append(Json.quote(e.to)).append(", \"weight\": ").append(e.weight).append("}");
+            if (j < primResult.edges.size() - 1) outJson.append(",");
+            outJson.append("\n");
+        }
+        outJson.append("        ],\n");
+        outJson.append("        \"total_cost\": ").append(primResult.totalCost).append(",\n");
+        outJson.append("        \"operations_count\": ").append(primResult.operationsCount).append(",\n");
+        outJson.append("        \"execution_time_ms\": ").append(String.format("%.2f", primResult.execTimeMs)).append(",\n");
+        outJson.append("        \"cached\": ").append(prim.cached).append(",\n");
+        outJson.append("        \"metrics\": ").append(primResult.metrics.toJson()).append("\n");
+        outJson.append("      },\n");
+
+        // Kruskal block
+        outJson.append("      \"kruskal\": {\n");
+        outJson.append("        \"mst_edges\": [\n");
+        for (int j = 0; j < kruskalMstEdges.size(); j++) {
+            kruskal_algorithm.Edge e = kruskalMstEdges.get(j);
+            outJson.append("          {\"from\": ").append(Json.quote(e.from)).append(", \"to\": ").append(Json.quote(e.to)).append(", \"weight\": ").append(e.weight).append("}");
+            if (j < kruskalMstEdges.size() - 1) outJson.append(",");
+            outJson.append("\n");
+        }
+        outJson.append("        ],\n");
+        outJson.append("        \"total_cost\": ").append(kruskalTotal).append(",\n");
+        outJson.append("        \"operations_count\": ").append(kruskalOps).append(",\n");
+        outJson.append("        \"execution_time_ms\": ").append(String.format("%.2f", kruskalTime)).append(",\n");
+        outJson.append("        \"cached\": ").append(kruskal.cached).append(",\n");
+        outJson.append("        \"metrics\": ").append(kruskalMetrics.toJson()).append("\n");
+        outJson.append("      },\n");
+
+        // Comparison block
+        outJson.append("      \"comparison\": {\n");
+        outJson.append("        \"cost_equal\": ").append(costEqual).append(",\n");
+        outJson.append("        \"prim_verified\": ").append(primValid).append(",\n");
+        if (!primValid) outJson.append("        \"prim_failure\": ").append(Json.quote(prim.report.failure)).append(",\n");
+        outJson.append("        \"kruskal_verified\": ").append(kruskalValid);
+        if (!kruskalValid) outJson.append(",\n        \"kruskal_failure\": ").append(Json.quote(kruskal.report.failure));
+        outJson.append("\n");
+        outJson.append("      }\n");
+
+        outJson.append("    }");
+        jsonWriter.write(outJson.toString());
+
+        // Append CSV row
+        String csvRow = buildCsvRow(id, graph.vertexCount(), graph.edgeCount(),
+                primResult.totalCost, kruskalTotal,
+                primResult.execTimeMs, kruskalTime,
+                primResult.operationsCount, kruskalOps,
+                costEqual, primValid, kruskalValid, prim.cached, kruskal.cached)
+                + "," + primResult.metrics.csvValues() + "," + kruskalMetrics.csvValues();
+        csvWriter.write(csvRow);
+        csvWriter.newLine();
+        csvWriter.flush();
+    }
+
+    private static String firstLine(File f) {
+        try (BufferedReader r = new BufferedReader(new FileReader(f))) {
+            return r.readLine();
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    // renames f to the first free <name>.<k>.<ext> next to it; null if that fails
+    private static File rotate(File f) {
+        String name = f.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot), ext = dot < 0 ? "" : name.substring(dot);
+        for (int k = 1; k < 1000; k++) {
+            File old = new File(f.getAbsoluteFile().getParentFile(), base + "." + k + ext);
+            if (!old.exists()) return f.renameTo(old) ? old : null;
+        }
+        return null;
     }
 
     // Helper: build CSV row
     private static String buildCsvRow(int id, int vertices, int edges,
                                       int primTotal, int kruskalTotal,
                                       double primTime, double kruskalTime,
-                                      int primOps, int kruskalOps,
-                                      boolean costEqual, boolean structureEqual) {
+                                      long primOps, long kruskalOps,
+                                      boolean costEqual, boolean primValid, boolean kruskalValid,
+                                      boolean primCached, boolean kruskalCached) {
         // ensure using dot decimal separator for times
-        return String.format(Locale.US, "%d,%d,%d,%d,%d,%.2f,%.2f,%d,%d,%s,%s",
+        return String.format(Locale.US, "%d,%d,%d,%d,%d,%.2f,%.2f,%d,%d,%s,%s,%s,%s,%s",
                 id, vertices, edges, primTotal, kruskalTotal,
                 primTime, kruskalTime, primOps, kruskalOps,
-                costEqual ? "TRUE" : "FALSE", structureEqual ? "TRUE" : "FALSE");
-    }
-
-    // Minimal JSON parser: returns list of graphs with id, nodes (List<String>) and raw_edges (List<Map>)
-    private static List<Map<String, Object>> extractGraphs(String json) {
-        List<Map<String, Object>> graphs = new ArrayList<>();
-        String[] parts = json.split("\\{\\s*\"id\"\\s*:");
-        for (int i = 1; i < parts.length; i++) {
-            String chunk = parts[i];
-            Map<String, Object> g = new HashMap<>();
-            int idEnd = chunk.indexOf(",");
-            int id = Integer.parseInt(chunk.substring(0, idEnd).trim());
-            g.put("id", id);
-
-            int nodesStart = chunk.indexOf("[", chunk.indexOf("\"nodes\""));
-            int nodesEnd = chunk.indexOf("]", nodesStart);
-            String[] nodeArray = chunk.substring(nodesStart + 1, nodesEnd).replace("\"", "").split(",");
-            List<String> nodes = new ArrayList<>();
-            for (String n : nodeArray) {
-                n = n.trim();
-                if (!n.isEmpty()) nodes.add(n);
-            }
-            g.put("nodes", nodes);
-
-            List<Map<String, Object>> rawEdges = new ArrayList<>();
-            int edgesStart = chunk.indexOf("[", chunk.indexOf("\"edges\""));
-            int edgesEnd = chunk.indexOf("]", edgesStart);
-            String edgesContent = chunk.substring(edgesStart + 1, edgesEnd);
-            String[] edgeParts = edgesContent.split("\\},");
-            for (String e : edgeParts) {
-                String from = extractValue(e, "from");
-                String to = extractValue(e, "to");
-                String w = extractValue(e, "weight");
-                if (from != null && to != null && w != null) {
-                    Map<String, Object> em = new HashMap<>();
-                    em.put("from", from);
-                    em.put("to", to);
-                    em.put("weight", Integer.parseInt(w));
-                    rawEdges.add(em);
-                }
-            }
-            g.put("raw_edges", rawEdges);
-            graphs.add(g);
-        }
-        return graphs;
-    }
-
-    private static String extractValue(String text, String key) {
-        int idx = text.indexOf("\"" + key + "\"");
-        if (idx == -1) return null;
-        int colon = text.indexOf(":", idx);
-        if (colon == -1) return null;
-        int comma = text.indexOf(",", colon);
-        if (comma == -1) comma = text.length();
-        return text.substring(colon + 1, comma).replaceAll("[^A-Za-z0-9]", "").trim();
+                costEqual ? "TRUE" : "FALSE", primValid ? "TRUE" : "FALSE", kruskalValid ? "TRUE" : "FALSE",
+                primCached ? "TRUE" : "FALSE", kruskalCached ? "TRUE" : "FALSE");
     }
 }
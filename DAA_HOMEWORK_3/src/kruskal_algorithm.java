@@ -1,8 +1,23 @@
+import Graphs.BatchRunner;
+import Graphs.ExternalKruskal;
+import Graphs.Graph;
+import Graphs.GraphJsonReader;
+import Graphs.Json;
+import Graphs.MstMetrics;
+import Graphs.RadixSort;
+import Graphs.UnionFind;
+
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class kruskal_algorithm {
 
+    // -Dkruskal.external=true runs every graph through the out-of-core path
+    // (-Dkruskal.runEdges=N edges per sorted run, -Dkruskal.tmpdir=DIR for the run files)
+    private static final boolean EXTERNAL = Boolean.getBoolean("kruskal.external");
+
     // --- Edge structure ---
     static class Edge implements Comparable<Edge> {
         String from, to;
@@ -21,56 +36,42 @@ public class kruskal_algorithm {
 
         @Override
         public String toString() {
-            return String.format("{\"from\": \"%s\", \"to\": \"%s\", \"weight\": %d}", from, to, weight);
-        }
-    }
-
-    // --- Disjoint Set (Union-Find) ---
-    static class DisjointSet {
-        private final Map<String, String> parent = new HashMap<>();
-
-        public void makeSet(Collection<String> vertices) {
-            for (String v : vertices) parent.put(v, v);
-        }
-
-        public String find(String v) {
-            if (!parent.get(v).equals(v))
-                parent.put(v, find(parent.get(v))); // Path compression
-            return parent.get(v);
-        }
-
-        public void union(String a, String b) {
-            String rootA = find(a);
-            String rootB = find(b);
-            if (!rootA.equals(rootB))
-                parent.put(rootB, rootA);
+            return String.format("{\"from\": %s, \"to\": %s, \"weight\": %d}", Json.quote(from), Json.quote(to), weight);
         }
     }
 
     // --- Kruskal's Algorithm ---
     public static Map<String, Object> kruskalMST(List<String> nodes, List<Edge> edges) {
         long start = System.nanoTime();
-        int operations = 0;
+        long operations = 0;
+        MstMetrics metrics = new MstMetrics();
 
-        Collections.sort(edges);
+        // radix sort of the int weights: edge indices in (weight, input order) order
+        int[] weights = new int[edges.size()];
+        for (int i = 0; i < weights.length; i++) weights[i] = edges.get(i).weight;
+        int[] order = RadixSort.order(weights, weights.length);
         operations += edges.size(); // for sorting
+        long sorted = System.nanoTime();
+        metrics.sortNanos = sorted - start;
 
-        DisjointSet ds = new DisjointSet();
-        ds.makeSet(nodes);
+        // intern vertex names once; the union-find works on dense int ids
+        Map<String, Integer> ids = new HashMap<>(nodes.size() * 2);
+        for (String v : nodes) ids.putIfAbsent(v, ids.size());
+        UnionFind uf = new UnionFind(ids.size());
         operations += nodes.size();
 
         List<Edge> mst = new ArrayList<>();
         int totalCost = 0;
 
-        for (Edge edge : edges) {
+        long scan = System.nanoTime();
+        metrics.buildNanos = scan - sorted;
+        for (int idx : order) {
+            Edge edge = edges.get(idx);
             operations++;
-            String rootA = ds.find(edge.from);
-            String rootB = ds.find(edge.to);
-
-            if (!rootA.equals(rootB)) {
+            metrics.edgesScanned++;
+            if (uf.union(ids.get(edge.from), ids.get(edge.to))) {
                 mst.add(edge);
                 totalCost += edge.weight;
-                ds.union(rootA, rootB);
                 operations++;
             }
 
@@ -79,6 +80,10 @@ public class kruskal_algorithm {
 
         long end = System.nanoTime();
         double execTimeMs = (end - start) / 1_000_000.0;
+        metrics.unionFindNanos = end - scan;
+        metrics.ufFinds = uf.finds();
+        metrics.ufUnions = uf.unions();
+        metrics.ufPathLength = uf.pathLength();
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("mst_edges", mst);
@@ -87,10 +92,105 @@ public class kruskal_algorithm {
         result.put("execution_time_ms", execTimeMs);
         result.put("vertices", nodes.size());
         result.put("edges", edges.size());
+        result.put("uf_finds", uf.finds());
+        result.put("uf_unions", uf.unions());
+        result.put("uf_path_length", uf.pathLength());
+        result.put("metrics", metrics);
 
         return result;
     }
 
+    // --- Out-of-core Kruskal: edges are streamed, sorted runs spill to tempDir ---
+    public static Map<String, Object> kruskalMSTExternal(List<String> nodes, Iterator<Edge> edges,
+                                                         Path tempDir, int runEdges) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Integer> ids = new HashMap<>(nodes.size() * 2);
+        for (String v : nodes) ids.putIfAbsent(v, ids.size());
+        String[] names = ids.keySet().toArray(new String[0]);
+        for (Map.Entry<String, Integer> e : ids.entrySet()) names[e.getValue()] = e.getKey();
+
+        Graph.MSTResult forest;
+        long edgeCount;
+        try (ExternalKruskal ek = new ExternalKruskal(names.length, tempDir, runEdges)) {
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                ek.add(ids.get(edge.from), ids.get(edge.to), edge.weight);
+            }
+            edgeCount = ek.edgeCount();
+            forest = ek.finish(v -> names[v]);
+        }
+
+        return externalResult(forest, forest.operations + nodes.size(), nodes.size(), edgeCount, start);
+    }
+
+    // same, fed straight from the graph's primitive edge arrays: no Edge objects per input edge
+    public static Map<String, Object> kruskalMSTExternal(Graph g, Path tempDir, int runEdges) throws IOException {
+        long start = System.nanoTime();
+        Graph.MSTResult forest = ExternalKruskal.run(g, tempDir, runEdges);
+        return externalResult(forest, forest.operations, g.vertexCount(), g.edgeCount(), start);
+    }
+
+    private static Map<String, Object> externalResult(Graph.MSTResult forest, long operations, int vertices,
+                                                      long edgeCount, long start) {
+        List<Edge> mst = new ArrayList<>(forest.mstEdges.size());
+        for (Graphs.Edge e : forest.mstEdges) mst.add(new Edge(e.getFrom(), e.getTo(), e.getWeight()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mst_edges", mst);
+        result.put("total_cost", forest.totalCost);
+        result.put("operations_count", operations);
+        result.put("execution_time_ms", (System.nanoTime() - start) / 1_000_000.0);
+        result.put("vertices", vertices);
+        result.put("edges", edgeCount);
+        result.put("uf_finds", forest.ufFinds);
+        result.put("uf_unions", forest.ufUnions);
+        result.put("uf_path_length", forest.ufPathLength);
+        result.put("metrics", forest.metrics);
+        return result;
+    }
+
+    private static Map<String, Object> runKruskal(GraphJsonReader.Entry entry) {
+        if (!EXTERNAL) {
+            List<Edge> edges = new ArrayList<>(entry.graph.edgeCount());
+            for (Graphs.Edge e : entry.graph.getEdges()) edges.add(new Edge(e.getFrom(), e.getTo(), e.getWeight()));
+            return kruskalMST(entry.graph.getNodes(), edges);
+        }
+        try {
+            Path tmp = Paths.get(System.getProperty("kruskal.tmpdir", System.getProperty("java.io.tmpdir")));
+            int runEdges = Integer.getInteger("kruskal.runEdges", ExternalKruskal.DEFAULT_RUN_EDGES);
+            return kruskalMSTExternal(entry.graph, tmp, runEdges);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // --- JSON block for one graph ---
+    private static String toJson(int id, Map<String, Object> mstResult) {
+        @SuppressWarnings("unchecked")
+        List<Edge> mstEdges = (List<Edge>) mstResult.get("mst_edges");
+        StringBuilder output = new StringBuilder();
+        output.append("    {\n");
+        output.append("      \"graph_id\": ").append(id).append(",\n");
+        output.append("      \"input_stats\": {\"vertices\": ").append(mstResult.get("vertices"))
+                .append(", \"edges\": ").append(mstResult.get("edges")).append("},\n");
+        output.append("      \"kruskal\": {\n");
+        output.append("        \"edges_in_mst\": [\n");
+
+        for (int j = 0; j < mstEdges.size(); j++) {
+            output.append("          ").append(mstEdges.get(j).toString());
+            if (j < mstEdges.size() - 1) output.append(",");
+            output.append("\n");
+        }
+
+        output.append("        ],\n");
+        output.append("        \"total_cost\": ").append(mstResult.get("total_cost")).append(",\n");
+        output.append("        \"operations_count\": ").append(mstResult.get("operations_count")).append(",\n");
+        output.append("        \"execution_time_ms\": ")
+                .append(String.format("%.2f", mstResult.get("execution_time_ms"))).append("\n");
+        output.append("      }\n    }");
+        return output.toString();
+    }
+
     // --- MAIN ---
     public static void main(String[] args) {
         try {
@@ -103,61 +203,20 @@ public class kruskal_algorithm {
                 return;
             }
 
-            // Read input file
-            StringBuilder sb = new StringBuilder();
-            try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = br.readLine()) != null) sb.append(line);
-            }
-
-            String json = sb.toString();
-            List<Map<String, Object>> graphs = extractGraphs(json);
-
-            // Prepare output
-            StringBuilder output = new StringBuilder();
-            output.append("{\n  \"results\": [\n");
-
-            for (int i = 0; i < graphs.size(); i++) {
-                Map<String, Object> graph = graphs.get(i);
-                int id = (int) graph.get("id");
-                List<String> nodes = (List<String>) graph.get("nodes");
-                List<Edge> edges = (List<Edge>) graph.get("edges");
-
-                Map<String, Object> mstResult = kruskalMST(nodes, edges);
-                @SuppressWarnings("unchecked")
-                List<Edge> mstEdges = (List<Edge>) mstResult.get("mst_edges");
-
-                // --- Write JSON ---
-                output.append("    {\n");
-                output.append("      \"graph_id\": ").append(id).append(",\n");
-                output.append("      \"input_stats\": {\"vertices\": ").append(mstResult.get("vertices"))
-                        .append(", \"edges\": ").append(mstResult.get("edges")).append("},\n");
-                output.append("      \"kruskal\": {\n");
-                output.append("        \"edges_in_mst\": [\n");
-
-                for (int j = 0; j < mstEdges.size(); j++) {
-                    output.append("          ").append(mstEdges.get(j).toString());
-                    if (j < mstEdges.size() - 1) output.append(",");
-                    output.append("\n");
-                }
-
-                output.append("        ],\n");
-                output.append("        \"total_cost\": ").append(mstResult.get("total_cost")).append(",\n");
-                output.append("        \"operations_count\": ").append(mstResult.get("operations_count")).append(",\n");
-                output.append("        \"execution_time_ms\": ")
-                        .append(String.format("%.2f", mstResult.get("execution_time_ms"))).append("\n");
-                output.append("      }\n    }");
-
-                if (i < graphs.size() - 1) output.append(",");
-                output.append("\n");
-            }
-
-            output.append("  ]\n}\n");
-
-            // Write result to output file
             File outFile = new File("C:\\Users\\musee\\Documents\\github\\DAA-HOMEWORK-3\\DAA_HOMEWORK_3\\src\\ass_3_output.json");
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(outFile))) {
-                writer.write(output.toString());
+
+            // Stream graphs from the input file, run them concurrently, write results in input order
+            try (GraphJsonReader reader = new GraphJsonReader(new FileInputStream(file));
+                 BufferedWriter writer = new BufferedWriter(new FileWriter(outFile))) {
+                writer.write("{\n  \"results\": [\n");
+                int[] written = {0};
+                BatchRunner<Map<String, Object>, Void> runner = BatchRunner.fromSystemProperties();
+                runner.run(reader, kruskal_algorithm::runKruskal, null, (entry, mstResult, unused) -> {
+                    if (written[0]++ > 0) writer.write(",\n");
+                    writer.write(toJson(entry.id, mstResult));
+                });
+                if (written[0] > 0) writer.write("\n");
+                writer.write("  ]\n}\n");
             }
 
             System.out.println("\nResults written to: " + outFile.getAbsolutePath());
@@ -166,57 +225,4 @@ public class kruskal_algorithm {
             e.printStackTrace();
         }
     }
-
-    // --- Minimal JSON parser for input (manual parsing) ---
-    private static List<Map<String, Object>> extractGraphs(String json) {
-        List<Map<String, Object>> graphs = new ArrayList<>();
-        String[] parts = json.split("\\{\\s*\"id\"\\s*:");
-
-        for (int i = 1; i < parts.length; i++) {
-            String chunk = parts[i];
-            Map<String, Object> graph = new HashMap<>();
-
-            int idEnd = chunk.indexOf(",");
-            int id = Integer.parseInt(chunk.substring(0, idEnd).trim());
-            graph.put("id", id);
-
-            int nodesStart = chunk.indexOf("[", chunk.indexOf("\"nodes\""));
-            int nodesEnd = chunk.indexOf("]", nodesStart);
-            String[] nodeArray = chunk.substring(nodesStart + 1, nodesEnd).replace("\"", "").split(",");
-            List<String> nodes = new ArrayList<>();
-            for (String n : nodeArray) {
-                n = n.trim();
-                if (!n.isEmpty()) nodes.add(n);
-            }
-            graph.put("nodes", nodes);
-
-            List<Edge> edges = new ArrayList<>();
-            int edgesStart = chunk.indexOf("[", chunk.indexOf("\"edges\""));
-            int edgesEnd = chunk.indexOf("]", edgesStart);
-            String edgesContent = chunk.substring(edgesStart + 1, edgesEnd);
-            String[] edgeParts = edgesContent.split("\\},");
-            for (String e : edgeParts) {
-                String from = extractValue(e, "from");
-                String to = extractValue(e, "to");
-                String w = extractValue(e, "weight");
-                if (from != null && to != null && w != null) {
-                    edges.add(new Edge(from, to, Integer.parseInt(w)));
-                }
-            }
-            graph.put("edges", edges);
-            graphs.add(graph);
-        }
-        return graphs;
-    }
-
-    private static String extractValue(String text, String key) {
-        int idx = text.indexOf("\"" + key + "\"");
-        if (idx == -1) return null;
-        int colon = text.indexOf(":", idx);
-        if (colon == -1) return null;
-        int comma = text.indexOf(",", colon);
-        if (comma == -1) comma = text.length();
-        String val = text.substring(colon + 1, comma).replaceAll("[^A-Za-z0-9]", "").trim();
-        return val.isEmpty() ? null : val;
-    }
 }
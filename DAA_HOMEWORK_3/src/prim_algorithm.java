@@ -1,3 +1,7 @@
+import Graphs.IndexedDaryHeap;
+import Graphs.Json;
+import Graphs.MstMetrics;
+
 import java.io.*;
 import java.util.*;
 
@@ -29,8 +33,9 @@ public class prim_algorithm {
     static class MSTResult {
         List<Edge> edges;
         int totalCost;
-        int operationsCount;
+        long operationsCount;
         double execTimeMs;
+        MstMetrics metrics = new MstMetrics();
         MSTResult() {
             edges = new ArrayList<>();
             totalCost = 0;
@@ -42,6 +47,7 @@ public class prim_algorithm {
     // === Prim's Algorithm ===
     public static MSTResult prim(Map<String, List<Edge>> graph, List<String> nodes) {
         MSTResult result = new MSTResult();
+        result.edges = new ArrayList<>(Math.max(0, nodes.size() - 1));
         Set<String> visited = new HashSet<>();
         PriorityQueue<NodeEdge> pq = new PriorityQueue<>();
 
@@ -53,27 +59,87 @@ public class prim_algorithm {
         for (Edge e : graph.get(startNode)) {
             pq.add(new NodeEdge(e.from, e.to, e.weight));
         }
+        MstMetrics m = result.metrics;
+        m.heapPushes = m.edgesScanned = pq.size();
 
         while (!pq.isEmpty() && visited.size() < nodes.size()) {
             NodeEdge edge = pq.poll();
             result.operationsCount++;
+            m.heapPops++;
 
-            if (visited.contains(edge.to)) continue;
+            if (visited.contains(edge.to)) { m.stalePops++; continue; }
 
             visited.add(edge.to);
             result.edges.add(new Edge(edge.from, edge.to, edge.weight));
             result.totalCost += edge.weight;
 
             for (Edge next : graph.get(edge.to)) {
+                m.edgesScanned++;
                 if (!visited.contains(next.to)) {
                     pq.add(new NodeEdge(next.from, next.to, next.weight));
                     result.operationsCount++;
+                    m.heapPushes++;
+                }
+            }
+        }
+
+        long end = System.nanoTime();
+        result.execTimeMs = (end - start) / 1_000_000.0;
+        m.heapNanos = end - start;
+        return result;
+    }
+
+    // === Eager Prim: indexed d-ary heap keyed by vertex id, decrease-key instead of re-pushing ===
+    public static MSTResult primEager(Map<String, List<Edge>> graph, List<String> nodes, int arity) {
+        MSTResult result = new MSTResult();
+        int n = nodes.size();
+        if (n == 0) return result;
+
+        Map<String, Integer> ids = new HashMap<>(n * 2);
+        List<String> names = new ArrayList<>(n);
+        for (String v : nodes) if (ids.putIfAbsent(v, ids.size()) == null) names.add(v);
+        n = names.size();
+        result.edges = new ArrayList<>(n - 1);
+        boolean[] inTree = new boolean[n];
+        Edge[] best = new Edge[n];   // cheapest known edge into each vertex
+        IndexedDaryHeap heap = new IndexedDaryHeap(n, arity);
+
+        long start = System.nanoTime();
+
+        MstMetrics m = result.metrics;
+        heap.insert(0, 0);
+        m.heapPushes = 1;
+        while (!heap.isEmpty()) {
+            int v = heap.pollMin();
+            result.operationsCount++;
+            m.heapPops++;
+            inTree[v] = true;
+            Edge in = best[v];
+            if (in != null) {
+                result.edges.add(new Edge(in.from, in.to, in.weight));
+                result.totalCost += in.weight;
+            }
+            for (Edge next : graph.get(names.get(v))) {
+                m.edgesScanned++;
+                int t = ids.get(next.to);
+                if (inTree[t]) continue;
+                if (!heap.contains(t)) {
+                    heap.insert(t, next.weight);
+                    m.heapPushes++;
+                } else if (next.weight < heap.keyOf(t)) {
+                    heap.decreaseKey(t, next.weight);
+                    m.decreaseKeys++;
+                } else {
+                    continue;
                 }
+                best[t] = next;
+                result.operationsCount++;
             }
         }
 
         long end = System.nanoTime();
         result.execTimeMs = (end - start) / 1_000_000.0;
+        m.heapNanos = end - start;
         return result;
     }
 
@@ -140,7 +206,7 @@ public class prim_algorithm {
             bw.write("        \"edges_in_mst\": [\n");
             for (int i = 0; i < r1.edges.size(); i++) {
                 Edge e = r1.edges.get(i);
-                bw.write("          {\"from\": \"" + e.from + "\", \"to\": \"" + e.to + "\", \"weight\": " + e.weight + "}");
+                bw.write("          {\"from\": " + Json.quote(e.from) + ", \"to\": " + Json.quote(e.to) + ", \"weight\": " + e.weight + "}");
                 if (i < r1.edges.size() - 1) bw.write(",");
                 bw.write("\n");
             }
@@ -158,7 +224,7 @@ public class prim_algorithm {
             bw.write("        \"edges_in_mst\": [\n");
             for (int i = 0; i < r2.edges.size(); i++) {
                 Edge e = r2.edges.get(i);
-                bw.write("          {\"from\": \"" + e.from + "\", \"to\": \"" + e.to + "\", \"weight\": " + e.weight + "}");
+                bw.write("          {\"from\": " + Json.quote(e.from) + ", \"to\": " + Json.quote(e.to) + ", \"weight\": " + e.weight + "}");
                 if (i < r2.edges.size() - 1) bw.write(",");
                 bw.write("\n");
             }
@@ -0,0 +1,21 @@
+package Graphs;
+
+// runs every test class in this directory; the first failure aborts with its AssertionError
+public final class AllTests {
+    public static void main(String[] args) throws Exception {
+        GraphJsonReaderTest.main(args);
+        BatchRunnerTest.main(args);
+        DynamicMSTTest.main(args);
+        ParallelBoruvkaTest.main(args);
+        MstVerifierTest.main(args);
+        FilterKruskalTest.main(args);
+        DensePrimTest.main(args);
+        BinaryGraphFormatTest.main(args);
+        StreamingMSFTest.main(args);
+        ExternalKruskalTest.main(args);
+        BottleneckIndexTest.main(args);
+        SpanningForestTest.main(args);
+        MstPlannerTest.main(args);
+        GraphGeneratorTest.main(args);
+    }
+}
@@ -0,0 +1,76 @@
+package Graphs;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class BatchRunnerTest {
+    public static void main(String[] args) throws IOException {
+        for (BatchRunner.Mode mode : BatchRunner.Mode.values()) {
+            truncatedInputWritesEverySubmittedGraph(mode);
+            failingJobWritesOnlyTheGraphsBeforeIt(mode);
+        }
+        TestSupport.ok(BatchRunnerTest.class);
+    }
+
+    // graphs 1..5 are complete, the file ends inside graph 6
+    static void truncatedInputWritesEverySubmittedGraph(BatchRunner.Mode mode) throws IOException {
+        String json = document(8);
+        int cut = json.indexOf("{\"id\": 6");
+        Path file = Files.createTempFile("batch-truncated", ".json");
+        try {
+            Files.write(file, json.substring(0, cut + 20).getBytes(StandardCharsets.UTF_8));
+            List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+            IOException thrown = null;
+            try (GraphJsonReader reader = new GraphJsonReader(new FileInputStream(file.toFile()))) {
+                new BatchRunner<Integer, Integer>(mode, 3, 4).run(reader,
+                        e -> e.graph.kruskal().totalCost, e -> e.graph.prim().totalCost,
+                        (e, k, p) -> written.add(e.id));
+            } catch (IOException ex) {
+                thrown = ex;
+            }
+            TestSupport.check(thrown != null && thrown.getMessage().startsWith("Malformed graph JSON"), "read error is rethrown: " + thrown);
+            TestSupport.checkEquals(List.of(1, 2, 3, 4, 5), written, mode + ": graphs before the truncation");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    static void failingJobWritesOnlyTheGraphsBeforeIt(BatchRunner.Mode mode) throws IOException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        IOException thrown = null;
+        try (GraphJsonReader reader = new GraphJsonReader(new java.io.ByteArrayInputStream(document(8).getBytes(StandardCharsets.UTF_8)))) {
+            new BatchRunner<Integer, Integer>(mode, 3, 8).run(reader,
+                    e -> {
+                        if (e.id == 4) throw new IllegalStateException("job 4");
+                        return e.graph.kruskal().totalCost;
+                    },
+                    null, (e, k, p) -> written.add(e.id));
+        } catch (IOException ex) {
+            thrown = ex;
+        }
+        TestSupport.check(thrown != null && thrown.getCause() instanceof IllegalStateException, "job failure is rethrown: " + thrown);
+        TestSupport.checkEquals(List.of(1, 2, 3), written, mode + ": graphs before the failing job");
+    }
+
+    // n small graphs with ids 1..n: a path v0 - v1 - ... - v{id}
+    private static String document(int n) {
+        StringBuilder sb = new StringBuilder("{\"graphs\": [");
+        for (int id = 1; id <= n; id++) {
+            if (id > 1) sb.append(", ");
+            sb.append("{\"id\": ").append(id).append(", \"nodes\": [");
+            for (int v = 0; v <= id; v++) sb.append(v > 0 ? ", " : "").append("\"v").append(v).append('"');
+            sb.append("], \"edges\": [");
+            for (int v = 0; v < id; v++)
+                sb.append(v > 0 ? ", " : "").append("{\"from\": \"v").append(v).append("\", \"to\": \"v").append(v + 1)
+                  .append("\", \"weight\": ").append(v + 1).append('}');
+            sb.append("]}");
+        }
+        return sb.append("]}").toString();
+    }
+}
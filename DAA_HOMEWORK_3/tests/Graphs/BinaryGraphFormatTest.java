@@ -0,0 +1,68 @@
+package Graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public final class BinaryGraphFormatTest {
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("mstg-test");
+        try {
+            Graph g = TestSupport.randomGraph(new Random(7), 200, 1500, 30);
+            Path file = dir.resolve("g.mstg");
+            BinaryGraphFormat.write(g, file);
+            byte[] good = Files.readAllBytes(file);
+
+            Graph mapped = BinaryGraphFormat.map(file);
+            TestSupport.checkEquals(g.getNodes(), mapped.getNodes(), "names round-trip");
+            TestSupport.checkEquals(g.kruskal().totalCost, mapped.kruskal().totalCost, "mapped graph cost");
+
+            rejects(dir, Arrays.copyOf(good, 64), "shorter than the header", "file shorter than the header");
+            rejects(dir, Arrays.copyOf(good, good.length - 4), "section 8", "last section cut short");
+            rejects(dir, patchInt(good, 0, 0x12345678), "Not a binary graph file", "bad magic");
+            rejects(dir, patchInt(good, 4, BinaryGraphFormat.VERSION + 1), "version", "unknown version");
+            rejects(dir, patchInt(good, 8, -1), "vertexCount -1", "negative vertex count");
+            rejects(dir, patchInt(good, 12, -5), "edgeCount -5", "negative edge count");
+            rejects(dir, patchInt(good, 12, 1 << 28), "Truncated", "edge count larger than the file");
+            rejects(dir, patchLong(good, 16 + 8 * 8, good.length), "section 8", "section past the end");
+            rejects(dir, patchLong(good, 16, 8), "section 0", "section inside the header");
+            // a name table claiming more bytes than the file holds
+            int nameOffsets = (int) ByteBuffer.wrap(good).order(ByteOrder.LITTLE_ENDIAN).getLong(16);
+            rejects(dir, patchInt(good, nameOffsets + 4 * g.vertexCount(), Integer.MAX_VALUE), "section 1", "name table too long");
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) files::iterator) Files.delete(p);
+            }
+            Files.delete(dir);
+        }
+        TestSupport.ok(BinaryGraphFormatTest.class);
+    }
+
+    private static void rejects(Path dir, byte[] content, String reason, String what) throws IOException {
+        Path bad = dir.resolve("bad.mstg");
+        Files.write(bad, content);
+        try {
+            BinaryGraphFormat.map(bad);
+            throw new AssertionError(what + ": accepted");
+        } catch (IOException expected) {
+            TestSupport.check(expected.getMessage().contains(reason),
+                    what + ": expected a message about \"" + reason + "\" but got: " + expected.getMessage());
+        }
+    }
+
+    private static byte[] patchInt(byte[] b, int at, int v) {
+        byte[] out = b.clone();
+        ByteBuffer.wrap(out).order(ByteOrder.LITTLE_ENDIAN).putInt(at, v);
+        return out;
+    }
+
+    private static byte[] patchLong(byte[] b, int at, long v) {
+        byte[] out = b.clone();
+        ByteBuffer.wrap(out).order(ByteOrder.LITTLE_ENDIAN).putLong(at, v);
+        return out;
+    }
+}
@@ -0,0 +1,91 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class BottleneckIndexTest {
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                Random rnd = new Random(seed);
+                for (int maxWeight : new int[]{1, 5, 1 << 20}) {
+                    Graph g = TestSupport.componentGraph(rnd, 300, 1 + rnd.nextInt(4), 4, 900, maxWeight);
+                    matchesTreePaths(rnd, g, pool, maxWeight + " weights, seed " + seed);
+                }
+            }
+            // no edges at all: every pair of distinct vertices is NO_PATH
+            Graph empty = TestSupport.componentGraph(new Random(1), 0, 1, 5, 0, 1);
+            matchesTreePaths(new Random(1), empty, pool, "isolated vertices only");
+        } finally {
+            pool.shutdown();
+        }
+        TestSupport.ok(BottleneckIndexTest.class);
+    }
+
+    static void matchesTreePaths(Random rnd, Graph g, ForkJoinPool pool, String what) {
+        int n = g.vertexCount();
+        Graph.MSTResult forest = g.kruskal();
+        BottleneckIndex index = new BottleneckIndex(g, forest);
+        int[][] expected = treePathMax(g, forest);
+
+        // random pairs, plus u == v and pairs across components in every batch
+        int q = 3000;
+        int[] us = new int[q], vs = new int[q];
+        int same = 0, apart = 0;
+        for (int i = 0; i < q; i++) {
+            us[i] = rnd.nextInt(n);
+            vs[i] = i % 10 == 0 ? us[i] : rnd.nextInt(n);
+            if (us[i] == vs[i]) same++;
+            else if (expected[us[i]][vs[i]] == BottleneckIndex.NO_PATH) apart++;
+        }
+        TestSupport.check(same > 0 && apart > 0, what + ": pairs cover u == v and different components");
+
+        int[] batch = index.bottlenecks(us, vs, pool);
+        boolean[] within = index.connectedWithin(us, vs, 2, pool);
+        for (int i = 0; i < q; i++) {
+            int u = us[i], v = vs[i];
+            String at = what + ": " + g.nameOf(u) + "-" + g.nameOf(v);
+            TestSupport.checkEquals(expected[u][v], index.bottleneck(u, v), at);
+            TestSupport.checkEquals(expected[u][v], batch[i], at + " (batch)");
+            TestSupport.checkEquals(expected[u][v], index.bottleneck(g, g.nameOf(u), g.nameOf(v)), at + " (by name)");
+            boolean reach = u == v || expected[u][v] <= 2;
+            TestSupport.checkEquals(reach, within[i], at + " within 2");
+            TestSupport.checkEquals(u == v || expected[u][v] != BottleneckIndex.NO_PATH, index.connected(u, v), at + " connected");
+        }
+    }
+
+    // brute force: from every vertex, walk the forest and carry the heaviest edge seen
+    private static int[][] treePathMax(Graph g, Graph.MSTResult forest) {
+        int n = g.vertexCount();
+        List<List<int[]>> adj = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) adj.add(new ArrayList<>());
+        for (Edge e : forest.mstEdges) {
+            int a = g.idOf(e.getFrom()), b = g.idOf(e.getTo());
+            adj.get(a).add(new int[]{b, e.getWeight()});
+            adj.get(b).add(new int[]{a, e.getWeight()});
+        }
+        int[][] max = new int[n][n];
+        int[] stack = new int[n];
+        for (int s = 0; s < n; s++) {
+            int[] row = max[s];
+            Arrays.fill(row, BottleneckIndex.NO_PATH);
+            row[s] = BottleneckIndex.SAME_VERTEX;
+            int sp = 0;
+            stack[sp++] = s;
+            while (sp > 0) {
+                int x = stack[--sp];
+                for (int[] arc : adj.get(x)) {
+                    int y = arc[0];
+                    if (y == s || row[y] != BottleneckIndex.NO_PATH) continue;
+                    row[y] = x == s ? arc[1] : Math.max(row[x], arc[1]);
+                    stack[sp++] = y;
+                }
+            }
+        }
+        return max;
+    }
+}
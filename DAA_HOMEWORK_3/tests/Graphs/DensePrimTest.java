@@ -0,0 +1,49 @@
+package Graphs;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Run with --add-modules jdk.incubator.vector to cover the vector kernel; without
+// it run(true) falls back to the scalar loop and the comparisons are trivial.
+public final class DensePrimTest {
+    public static void main(String[] args) {
+        if (!DensePrim.vectorSupported()) System.out.println("  (jdk.incubator.vector not present: scalar only)");
+        // sizes around every lane count, so vector bodies and scalar tails both run
+        int[] sizes = {1, 2, 3, 7, 8, 9, 15, 16, 17, 31, 33, 63, 65, 100, 257};
+        for (long seed = 1; seed <= 5; seed++) {
+            Random rnd = new Random(seed);
+            for (int n : sizes) {
+                vectorMatchesScalar(rnd, n, 1.0, 4, "complete, 4 weights");
+                vectorMatchesScalar(rnd, n, 0.6, 1 << 20, "dense, wide weights");
+                vectorMatchesScalar(rnd, n, 0.05, 3, "sparse, 3 weights");   // mostly disconnected
+                Graph g = TestSupport.randomGraph(rnd, n, n * n, 5);
+                DensePrim dp = DensePrim.of(g.getCsr());
+                dp.run(true);
+                if (dp.treeSize() == n - 1)
+                    TestSupport.checkEquals((long) g.kruskal().totalCost, dp.treeCost(), "n=" + n + ": cost vs kruskal()");
+            }
+        }
+        TestSupport.ok(DensePrimTest.class);
+    }
+
+    // both passes must pick the same vertex every step, so the trees agree edge for edge
+    static void vectorMatchesScalar(Random rnd, int n, double density, int maxWeight, String what) {
+        int[] m = new int[n * n];
+        Arrays.fill(m, DensePrim.NO_EDGE);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (rnd.nextDouble() >= density) continue;
+                int w = rnd.nextInt(maxWeight);
+                m[i * n + j] = m[j * n + i] = w;
+            }
+        }
+        DensePrim scalar = new DensePrim(n, m), vector = new DensePrim(n, m.clone());
+        int size = scalar.run(false);
+        String at = what + ", n=" + n;
+        TestSupport.checkEquals(size, vector.run(true), at + ": tree size");
+        TestSupport.checkEquals(scalar.treeCost(), vector.treeCost(), at + ": cost");
+        TestSupport.check(Arrays.equals(scalar.treeFrom(), 0, size, vector.treeFrom(), 0, size)
+                && Arrays.equals(scalar.treeTo(), 0, size, vector.treeTo(), 0, size), at + ": tree edges");
+        TestSupport.checkEquals(scalar.decreases(), vector.decreases(), at + ": decrease count");
+    }
+}
@@ -0,0 +1,85 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class DynamicMSTTest {
+    public static void main(String[] args) {
+        for (long seed = 1; seed <= 20; seed++) {
+            randomUpdatesMatchKruskal(seed, 30, 60, 20, 400);   // few weights: many ties
+            randomUpdatesMatchKruskal(seed, 60, 90, 1000, 400); // sparse: deletions disconnect
+        }
+        TestSupport.ok(DynamicMSTTest.class);
+    }
+
+    // random inserts, deletes, increases and decreases; after every update the
+    // forest must cost what kruskal() on the current edge set costs, edge for edge
+    static void randomUpdatesMatchKruskal(long seed, int n, int m, int maxWeight, int updates) {
+        Random rnd = new Random(seed);
+        Graph g = TestSupport.randomGraph(rnd, n, m, maxWeight);
+        DynamicMST dyn = new DynamicMST(g, g.kruskal());
+
+        // the model: every edge id ever issued, with its current weight
+        List<String> nodes = g.getNodes();
+        List<int[]> edges = new ArrayList<>();     // {from, to, weight}
+        List<Boolean> alive = new ArrayList<>();
+        for (int e = 0; e < g.edgeCount(); e++) {
+            Edge x = g.edge(e);
+            edges.add(new int[]{g.idOf(x.getFrom()), g.idOf(x.getTo()), x.getWeight()});
+            alive.add(true);
+        }
+
+        for (int step = 0; step < updates; step++) {
+            int op = rnd.nextInt(4);
+            int e = live(rnd, alive);
+            String what;
+            if (op == 0 || e < 0) {
+                int a = rnd.nextInt(n), b = rnd.nextInt(n), w = rnd.nextInt(maxWeight);
+                int id = dyn.insertEdge(a, b, w).edge;
+                TestSupport.checkEquals(edges.size(), id, "inserted edge id");
+                edges.add(new int[]{a, b, w});
+                alive.add(true);
+                what = "insert " + a + "-" + b + " w=" + w;
+            } else if (op == 1) {
+                dyn.deleteEdge(e);
+                alive.set(e, false);
+                what = "delete " + e;
+            } else if (op == 2) {
+                int w = edges.get(e)[2] + rnd.nextInt(maxWeight);
+                dyn.increaseWeight(e, w);
+                edges.get(e)[2] = w;
+                what = "increase " + e + " to " + w;
+            } else {
+                int w = edges.get(e)[2] - rnd.nextInt(edges.get(e)[2] + 1);
+                dyn.decreaseWeight(e, w);
+                edges.get(e)[2] = w;
+                what = "decrease " + e + " to " + w;
+            }
+
+            // surviving edges keep their relative id order, so (weight, id) ties break alike
+            List<Edge> current = new ArrayList<>();
+            for (int i = 0; i < edges.size(); i++) {
+                if (!alive.get(i)) continue;
+                int[] x = edges.get(i);
+                current.add(new Edge(nodes.get(x[0]), nodes.get(x[1]), x[2]));
+            }
+            Graph.MSTResult expected = new Graph(nodes, current).kruskal();
+            Graph.MSTResult actual = dyn.result();
+            String at = "seed " + seed + ", step " + step + " (" + what + ")";
+            TestSupport.checkEquals(expected.totalCost, actual.totalCost, at + ": cost");
+            TestSupport.checkEquals(expected.totalCost, dyn.totalCost(), at + ": totalCost()");
+            TestSupport.checkEquals(TestSupport.edgeSet(expected), TestSupport.edgeSet(actual), at + ": edges");
+        }
+    }
+
+    // a random edge id that is not deleted, or -1 when none is left
+    private static int live(Random rnd, List<Boolean> alive) {
+        int start = rnd.nextInt(alive.size());
+        for (int i = 0; i < alive.size(); i++) {
+            int e = (start + i) % alive.size();
+            if (alive.get(e)) return e;
+        }
+        return -1;
+    }
+}
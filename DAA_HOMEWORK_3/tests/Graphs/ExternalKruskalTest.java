@@ -0,0 +1,67 @@
+package Graphs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// run sizes of a few edges force hundreds of spilled runs, all in a private temp dir
+public final class ExternalKruskalTest {
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("external-kruskal-test");
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                Random rnd = new Random(seed);
+                for (int maxWeight : new int[]{1, 4, 1 << 20}) {
+                    Graph g = TestSupport.componentGraph(rnd, 200, 1 + rnd.nextInt(3), 3, 600, maxWeight);
+                    String what = maxWeight + " weights, seed " + seed;
+                    for (int runEdges : new int[]{1, 7, 64}) spillsAndMerges(g, dir, runEdges, what + ", runs of " + runEdges);
+                    TestSupport.checkEquals(g.kruskal().totalCost, ExternalKruskal.run(g, dir, 5).totalCost, what + ": run()");
+                    TestSupport.checkEquals(0L, files(dir), what + ": run() left run files");
+                }
+            }
+            closeWithoutFinish(dir);
+        } finally {
+            try (Stream<Path> s = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) s::iterator) Files.delete(p);
+            }
+            Files.delete(dir);
+        }
+        TestSupport.ok(ExternalKruskalTest.class);
+    }
+
+    static void spillsAndMerges(Graph g, Path dir, int runEdges, String what) throws IOException {
+        CsrGraph csr = g.getCsr();
+        int m = csr.edgeCount();
+        Graph.MSTResult actual;
+        try (ExternalKruskal ek = new ExternalKruskal(csr.vertexCount(), dir, runEdges)) {
+            for (int e = 0; e < m; e++) ek.add(csr.edgeFrom(e), csr.edgeTo(e), csr.edgeWeight(e));
+            int runs = (m + runEdges - 1) / runEdges;
+            TestSupport.checkEquals(runs, ek.runCount(), what + ": run count");
+            TestSupport.checkEquals((long) runs - 1, files(dir), what + ": spilled runs on disk");   // the last run is still buffered
+            actual = ek.finish(g::nameOf);
+            TestSupport.checkEquals(0L, files(dir), what + ": run files left after finish()");
+        }
+        // same (weight, input order) tie-break as kruskal(), so even the edges agree
+        Graph.MSTResult expected = g.kruskal();
+        TestSupport.checkEquals(expected.totalCost, actual.totalCost, what + ": cost");
+        TestSupport.checkEquals(TestSupport.edgeSet(expected), TestSupport.edgeSet(actual), what + ": edges");
+    }
+
+    // an abandoned instance still removes its spilled runs on close()
+    static void closeWithoutFinish(Path dir) throws IOException {
+        ExternalKruskal ek = new ExternalKruskal(10, dir, 2);
+        for (int i = 0; i < 9; i++) ek.add(i, i + 1, i);
+        TestSupport.checkEquals(4L, files(dir), "spilled runs before close()");
+        ek.close();
+        TestSupport.checkEquals(0L, files(dir), "run files left after close()");
+        ek.close();   // safe to call again
+    }
+
+    private static long files(Path dir) throws IOException {
+        try (Stream<Path> s = Files.list(dir)) {
+            return s.count();
+        }
+    }
+}
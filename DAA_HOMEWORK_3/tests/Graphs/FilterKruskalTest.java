@@ -0,0 +1,58 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class FilterKruskalTest {
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                Random rnd = new Random(seed);
+                for (int maxWeight : new int[]{1, 4, 1 << 20}) {
+                    Graph g = TestSupport.randomGraph(rnd, 20000, 200000, maxWeight);
+                    String what = maxWeight + " weights, seed " + seed;
+                    matchesKruskal(g, new FilterKruskal(g.getCsr(), pool), what);
+                    // depth caps of 0 and 1 force the sort fallback at the top of the recursion
+                    FilterKruskal capped = new FilterKruskal(g.getCsr(), pool, 0);
+                    matchesKruskal(g, capped, what + ", depth 0");
+                    TestSupport.checkEquals(1, capped.fallbacks, what + ": fallbacks at depth 0");
+                    capped = new FilterKruskal(g.getCsr(), pool, 1);
+                    matchesKruskal(g, capped, what + ", depth 1");
+                    TestSupport.check(capped.fallbacks >= 1, what + ": no fallback at depth 1");
+                }
+            }
+            for (boolean ascending : new boolean[]{true, false}) {
+                Graph g = monotone(100000, ascending);
+                matchesKruskal(g, new FilterKruskal(g.getCsr(), pool), ascending ? "ascending weights" : "descending weights");
+            }
+        } finally {
+            pool.shutdown();
+        }
+        TestSupport.ok(FilterKruskalTest.class);
+    }
+
+    static void matchesKruskal(Graph g, FilterKruskal fk, String what) {
+        Graph.MSTResult expected = g.kruskal();
+        Graph.MSTResult actual = fk.run(g);
+        TestSupport.checkEquals(expected.totalCost, actual.totalCost, what + ": cost");
+        TestSupport.checkEquals(TestSupport.edgeSet(expected), TestSupport.edgeSet(actual), what + ": edges");
+    }
+
+    // a path plus chords, with weights sorted by edge id
+    private static Graph monotone(int n, boolean ascending) {
+        List<String> nodes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) nodes.add("v" + i);
+        List<Edge> edges = new ArrayList<>(2 * n);
+        for (int i = 0; i + 1 < n; i++) edges.add(new Edge("v" + i, "v" + (i + 1), 0));
+        for (int i = 0; i + 7 < n; i++) edges.add(new Edge("v" + i, "v" + (i + 7), 0));
+        List<Edge> weighted = new ArrayList<>(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            Edge e = edges.get(i);
+            weighted.add(new Edge(e.getFrom(), e.getTo(), ascending ? i : edges.size() - i));
+        }
+        return new Graph(nodes, weighted);
+    }
+}
@@ -0,0 +1,48 @@
+package Graphs;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class GraphGeneratorTest {
+    public static void main(String[] args) throws IOException {
+        for (GraphGenerator.Family family : new GraphGenerator.Family[]{GraphGenerator.Family.GNM, GraphGenerator.Family.RMAT}) {
+            rejectsTooFewEdges(family);
+            spansWithTreeEdgesOnly(family);
+        }
+        TestSupport.ok(GraphGeneratorTest.class);
+    }
+
+    // connected mode with edges < n - 1 cannot span every vertex
+    static void rejectsTooFewEdges(GraphGenerator.Family family) throws IOException {
+        GraphGenerator gen = new GraphGenerator(family, 100, 98, GraphGenerator.Weights.UNIFORM).seed(3);
+        rejects(family + ": generate()", gen::generate);
+        rejects(family + ": writeJson()", () -> gen.writeJson(new StringWriter(), 1));
+        Path file = Files.createTempFile("generator-test", ".mstg");
+        try {
+            rejects(family + ": writeBinary()", () -> gen.writeBinary(file));
+        } finally {
+            Files.delete(file);
+        }
+        Graph sparse = gen.connected(false).generate();
+        TestSupport.checkEquals(98, sparse.edgeCount(), family + ": connected(false) keeps the edge count");
+    }
+
+    // exactly n - 1 edges: the random tree alone, so one component
+    static void spansWithTreeEdgesOnly(GraphGenerator.Family family) {
+        Graph g = new GraphGenerator(family, 100, 99, GraphGenerator.Weights.DUPLICATES).seed(3).generate();
+        TestSupport.checkEquals(1, g.spanningForest().components, family + ": components with n - 1 edges");
+    }
+
+    private interface Call { void run() throws IOException; }
+
+    private static void rejects(String what, Call call) throws IOException {
+        try {
+            call.run();
+            throw new AssertionError(what + ": accepted 98 edges on 100 vertices");
+        } catch (IllegalArgumentException expected) {
+            TestSupport.check(expected.getMessage().contains("at least 99 edges"), what + ": " + expected.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Graphs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// non-ASCII text is written as unicode escapes so this file compiles under any -encoding
+public final class GraphJsonReaderTest {
+    public static void main(String[] args) throws IOException {
+        escapedEmojiRoundTrips();
+        bmpEscapesAndRawUtf8Agree();
+        loneSurrogatesAreRejected();
+        quotedNamesRoundTrip();
+        duplicateNodesCollapse();
+        TestSupport.ok(GraphJsonReaderTest.class);
+    }
+
+    static void escapedEmojiRoundTrips() throws IOException {
+        Graph g = read("{\"graphs\": [{\"id\": 1, \"nodes\": [\"\\ud83d\\ude00\", \"\\uD83D\\uDE01x\"],"
+                + " \"edges\": [{\"from\": \"\\ud83d\\ude00\", \"to\": \"\\uD83D\\uDE01x\", \"weight\": 3}]}]}");
+        TestSupport.checkEquals("\uD83D\uDE00", g.nameOf(0), "surrogate pair decodes to one code point");
+        TestSupport.checkEquals("\uD83D\uDE01x", g.nameOf(1), "pair followed by ASCII");
+        TestSupport.check(!g.nameOf(0).equals(g.nameOf(1)), "non-BMP names stay distinct");
+        TestSupport.checkEquals(1, g.edgeCount(), "edge between emoji vertices resolves");
+        TestSupport.checkEquals(0, g.idOf("\uD83D\uDE00"), "idOf by the decoded name");
+    }
+
+    static void bmpEscapesAndRawUtf8Agree() throws IOException {
+        Graph g = read("{\"graphs\": [{\"nodes\": [\"\\u00e9\\u20ac\", \"\u00e9\u20ac\\ud83d\\ude00\"], \"edges\": []}]}");
+        TestSupport.checkEquals("\u00e9\u20ac", g.nameOf(0), "2- and 3-byte escapes");
+        TestSupport.checkEquals("\u00e9\u20ac\uD83D\uDE00", g.nameOf(1), "raw UTF-8 mixed with an escaped pair");
+    }
+
+    static void loneSurrogatesAreRejected() {
+        String[] bad = { "\\ud83d", "\\ud83dx", "\\ud83d\\n", "\\ud83d\\u0041", "\\ude00" };
+        for (String s : bad) {
+            try {
+                read("{\"graphs\": [{\"nodes\": [\"" + s + "\"], \"edges\": []}]}");
+                throw new AssertionError("accepted lone surrogate in \"" + s + "\"");
+            } catch (IOException expected) {
+                TestSupport.check(expected.getMessage().contains("surrogate"), "error names the surrogate: " + expected.getMessage());
+            }
+        }
+    }
+
+    // names the reader accepts survive Json.quote() and a second read unchanged
+    static void quotedNamesRoundTrip() throws IOException {
+        String[] names = { "say \"hi\"", "C:\\tmp\\", "tab\tnew\nline", "bell\u0007\u001f", "\uD83D\uDE00 \u00e9" };
+        StringBuilder json = new StringBuilder("{\"graphs\": [{\"nodes\": [");
+        for (int i = 0; i < names.length; i++) json.append(i == 0 ? "" : ", ").append(Json.quote(names[i]));
+        json.append("], \"edges\": [{\"from\": ").append(Json.quote(names[0])).append(", \"to\": ")
+            .append(Json.quote(names[1])).append(", \"weight\": 1}]}]}");
+        Graph g = read(json.toString());
+        for (int i = 0; i < names.length; i++) TestSupport.checkEquals(names[i], g.nameOf(i), "name " + i);
+        TestSupport.checkEquals(1, g.edgeCount(), "edge between quoted names resolves");
+        TestSupport.checkEquals("\"bell\\u0007\\u001f\"", Json.quote("bell\u0007\u001f"), "control characters as hex escapes");
+        TestSupport.checkEquals("\"x\\ud83d\"", Json.quote("x\uD83D"), "lone surrogate as a hex escape");
+    }
+
+    // the reader and the Graph constructor both keep the first id of a repeated name
+    static void duplicateNodesCollapse() throws IOException {
+        Graph parsed = read("{\"graphs\": [{\"nodes\": [\"a\", \"b\", \"a\", \"c\", \"b\"],"
+                + " \"edges\": [{\"from\": \"a\", \"to\": \"c\", \"weight\": 2}]}]}");
+        Graph built = new Graph(List.of("a", "b", "a", "c", "b"), List.of(new Edge("a", "c", 2)));
+        for (Graph g : new Graph[]{parsed, built}) {
+            TestSupport.checkEquals(List.of("a", "b", "c"), g.getNodes(), "duplicates dropped");
+            TestSupport.checkEquals(2, g.idOf("c"), "ids follow first appearance");
+            TestSupport.checkEquals(2, g.kruskal().totalCost, "edge resolves");
+        }
+    }
+
+    private static Graph read(String json) throws IOException {
+        try (GraphJsonReader r = new GraphJsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return r.next().graph;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package Graphs;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class MstPlannerTest {
+    static final int FEW = 16;
+    static final double DENSE = 0.5;
+    static final long FILTER = 5000;
+
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MstPlanner planner = new MstPlanner(FEW, DENSE, FILTER, 4, 0.5, pool);
+            thresholds(planner);
+            runs(planner, new MstPlanner(FEW, DENSE, FILTER, 4, 0.0, pool));
+        } finally {
+            pool.shutdown();
+        }
+        TestSupport.ok(MstPlannerTest.class);
+    }
+
+    // every rule on both sides of its threshold, from hand-made statistics
+    static void thresholds(MstPlanner planner) {
+        int wide = 1 << 20;
+        picks(planner, stats(100, 98, wide, 1000), MstPlanner.Engine.SPANNING_FOREST, "E = V - 2");
+        picks(planner, stats(100, 99, wide, 1000), MstPlanner.Engine.KRUSKAL, "E = V - 1");
+        picks(planner, stats(0, 0, 0, 0), MstPlanner.Engine.KRUSKAL, "empty graph");
+
+        picks(planner, stats(100, 4000, wide, FEW), MstPlanner.Engine.KRUSKAL, "dense, " + FEW + " distinct weights");
+        picks(planner, stats(100, 4000, wide, FEW + 1), MstPlanner.Engine.PRIM_DENSE, "dense, " + (FEW + 1) + " distinct weights");
+
+        // density 2E / (V (V - 1)) is exactly 0.5 at V = 100, E = 2475
+        picks(planner, stats(100, 2475, wide, 1000), MstPlanner.Engine.PRIM_DENSE, "density at the threshold");
+        picks(planner, stats(100, 2474, wide, 1000), MstPlanner.Engine.KRUSKAL, "density just below");
+        picks(planner, stats(100, 4000, Integer.MAX_VALUE, 1000), MstPlanner.Engine.PRIM_EAGER, "weight equal to DensePrim's sentinel");
+        int v = DensePrim.MAX_VERTICES + 1;
+        picks(planner, stats(v, v / 2 * (v - 1), wide, 1000), MstPlanner.Engine.PRIM_EAGER, "too many vertices for a matrix");
+
+        picks(planner, stats(4000, (int) FILTER, wide, 1000), MstPlanner.Engine.FILTER_KRUSKAL, "E at filterEdges");
+        picks(planner, stats(4000, (int) FILTER - 1, wide, 1000), MstPlanner.Engine.KRUSKAL, "E just below filterEdges");
+    }
+
+    // real graphs: the planned engine runs and costs the same as kruskal()
+    static void runs(MstPlanner planner, MstPlanner noMatrix) {
+        for (long seed = 1; seed <= 3; seed++) {
+            Random rnd = new Random(seed);
+            int wide = 1 << 20;
+            String s = ", seed " + seed;
+            matches(planner, TestSupport.componentGraph(rnd, 200, 4, 10, 150, wide), "spanningForest", "fewer edges than V - 1" + s);
+            matches(planner, TestSupport.randomGraph(rnd, 1000, 3000, 4), "kruskal", "sparse, 4 weights" + s);
+            matches(planner, TestSupport.randomGraph(rnd, 1000, 3000, wide), "kruskal", "sparse, wide weights" + s);
+            matches(planner, TestSupport.randomGraph(rnd, 3000, 6000, wide), "filterKruskal", "sparse, E >= filterEdges" + s);
+            Graph dense = TestSupport.randomGraph(rnd, 80, 4000, wide);
+            matches(planner, dense, "primDense", "dense" + s);
+            matches(noMatrix, dense, "primEager", "dense, no room for a matrix" + s);
+            // dense, E >= V - 1, but two components: Prim stops early and the planner falls back
+            Graph split = TestSupport.componentGraph(rnd, 80, 2, 0, 4000, wide);
+            Graph.MSTResult r = matches(planner, split, "spanningForest", "dense, disconnected" + s);
+            TestSupport.check(r.engineReason.contains("fell back"), "fallback reason: " + r.engineReason);
+            TestSupport.check(r.engineReason.startsWith("density"), "planned as dense: " + r.engineReason);
+        }
+    }
+
+    static Graph.MSTResult matches(MstPlanner planner, Graph g, String engine, String what) {
+        Graph.MSTResult r = planner.run(g);
+        TestSupport.checkEquals(engine, r.engine, what + ": engine (" + r.engineReason + ")");
+        TestSupport.checkEquals(g.kruskal().totalCost, r.totalCost, what + ": cost");
+        return r;
+    }
+
+    private static void picks(MstPlanner planner, MstPlanner.Stats s, MstPlanner.Engine expected, String what) {
+        MstPlanner.Plan p = planner.plan(s);
+        TestSupport.checkEquals(expected, p.engine, what + " (" + p + ")");
+    }
+
+    // weights span [0, maxWeight]
+    private static MstPlanner.Stats stats(int vertices, int edges, int maxWeight, long distinct) {
+        return new MstPlanner.Stats(vertices, edges, 0, maxWeight, distinct);
+    }
+}
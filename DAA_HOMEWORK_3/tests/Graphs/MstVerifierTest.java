@@ -0,0 +1,73 @@
+package Graphs;
+
+import java.util.List;
+
+public final class MstVerifierTest {
+    //   a-b 1, b-c 2, c-d 3, a-c 4, b-d 5, a-d 6; the MST is a-b, b-c, c-d (cost 6)
+    static final Graph G = new Graph(List.of("a", "b", "c", "d"), List.of(
+            new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("c", "d", 3),
+            new Edge("a", "c", 4), new Edge("b", "d", 5), new Edge("a", "d", 6)));
+
+    public static void main(String[] args) {
+        acceptsTheMinimumTree();
+        rejectsHeavierSwappedEdge();
+        rejectsCycle();
+        rejectsMissingVertex();
+        rejectsForeignEdge();
+        TestSupport.ok(MstVerifierTest.class);
+    }
+
+    static void acceptsTheMinimumTree() {
+        MstVerifier.Report r = MstVerifier.verify(G, G.kruskal());
+        TestSupport.check(r.valid, "kruskal() tree: " + r);
+        r = MstVerifier.verify(G, tree(6, new Edge("d", "c", 3), new Edge("b", "a", 1), new Edge("c", "b", 2)));
+        TestSupport.check(r.valid, "edge order and direction do not matter: " + r);
+    }
+
+    // a spanning tree, but b-d(5) replaces c-d(3): c-d is lighter than its tree path
+    static void rejectsHeavierSwappedEdge() {
+        MstVerifier.Report r = MstVerifier.verify(G, tree(8, new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("b", "d", 5)));
+        rejects(r, "lighter than the tree path", "heavier edge swapped in");
+    }
+
+    static void rejectsCycle() {
+        // n - 1 edges, but a-b-c closes a cycle and d is left out
+        rejects(MstVerifier.verify(G, tree(7, new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("a", "c", 4))),
+                "cycle", "triangle");
+        // every vertex covered, one edge too many
+        rejects(MstVerifier.verify(G, tree(10, new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("c", "d", 3), new Edge("a", "c", 4))),
+                "cycle", "extra edge");
+    }
+
+    // a minimum tree of a, b, c only: d is not reached
+    static void rejectsMissingVertex() {
+        rejects(MstVerifier.verify(G, tree(3, new Edge("a", "b", 1), new Edge("b", "c", 2))), "not spanning", "missing vertex");
+        rejects(MstVerifier.verify(G, new int[]{0, 1}, new int[]{1, 2}, new int[]{1, 2}, 2, 3), "not spanning", "missing vertex, ids");
+    }
+
+    static void rejectsForeignEdge() {
+        // the endpoints exist, but G has no a-d of weight 2
+        rejects(MstVerifier.verify(G, tree(5, new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("a", "d", 2))),
+                "is not in the graph", "wrong weight");
+        // b-d exists, but a-d(5) does not
+        rejects(MstVerifier.verify(G, new int[]{0, 1, 0}, new int[]{1, 2, 3}, new int[]{1, 2, 5}, 3, 8),
+                "is not in the graph", "wrong endpoints, ids");
+        // a vertex G does not have
+        rejects(MstVerifier.verify(G, tree(6, new Edge("a", "b", 1), new Edge("b", "c", 2), new Edge("c", "z", 3))),
+                "tree edge", "unknown vertex");
+        rejects(MstVerifier.verify(G, new int[]{0, 1, 2}, new int[]{1, 2, 4}, new int[]{1, 2, 3}, 3, 6),
+                "out of range", "vertex id out of range");
+    }
+
+    private static Graph.MSTResult tree(int totalCost, Edge... edges) {
+        Graph.MSTResult r = new Graph.MSTResult();
+        r.mstEdges.addAll(List.of(edges));
+        r.totalCost = totalCost;
+        return r;
+    }
+
+    private static void rejects(MstVerifier.Report r, String reason, String what) {
+        TestSupport.check(!r.valid, what + ": accepted");
+        TestSupport.check(r.failure.contains(reason), what + ": expected a failure about \"" + reason + "\" but got: " + r.failure);
+    }
+}
@@ -0,0 +1,31 @@
+package Graphs;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class ParallelBoruvkaTest {
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 10; seed++) {
+                Random rnd = new Random(seed);
+                matchesKruskal(TestSupport.randomGraph(rnd, 200, 1200, 4), pool, "small, 4 weights, seed " + seed);
+                matchesKruskal(TestSupport.randomGraph(rnd, 300, 200, 3), pool, "forest, 3 weights, seed " + seed);
+                // above MIN_CHUNK edges, so scans and merges really split across workers
+                matchesKruskal(TestSupport.randomGraph(rnd, 5000, 60000, 8), pool, "large, 8 weights, seed " + seed);
+                matchesKruskal(TestSupport.randomGraph(rnd, 5000, 60000, 1), pool, "large, one weight, seed " + seed);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        TestSupport.ok(ParallelBoruvkaTest.class);
+    }
+
+    // both order edges by (weight, id), so the trees agree edge for edge, not only in cost
+    static void matchesKruskal(Graph g, ForkJoinPool pool, String what) {
+        Graph.MSTResult expected = g.kruskal();
+        Graph.MSTResult actual = g.boruvka(pool);
+        TestSupport.checkEquals(expected.totalCost, actual.totalCost, what + ": cost");
+        TestSupport.checkEquals(TestSupport.edgeSet(expected), TestSupport.edgeSet(actual), what + ": edges");
+    }
+}
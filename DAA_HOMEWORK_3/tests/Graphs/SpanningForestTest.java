@@ -0,0 +1,97 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class SpanningForestTest {
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                Random rnd = new Random(seed);
+                for (int maxWeight : new int[]{1, 4, 1 << 20}) {
+                    String what = maxWeight + " weights, seed " + seed;
+                    // small components, then ones with enough edges to split labeling into chunks
+                    matchesKruskal(TestSupport.componentGraph(rnd, 200, 1 + rnd.nextInt(6), 7, 500, maxWeight), pool, what);
+                    matchesKruskal(TestSupport.componentGraph(rnd, 20000, 1 + rnd.nextInt(6), 50, 120000, maxWeight), pool, what + ", large");
+                }
+            }
+            matchesKruskal(TestSupport.componentGraph(new Random(1), 0, 1, 6, 0, 1), pool, "isolated vertices only");
+            matchesKruskal(TestSupport.componentGraph(new Random(1), 0, 1, 0, 0, 1), pool, "empty graph");
+        } finally {
+            pool.shutdown();
+        }
+        TestSupport.ok(SpanningForestTest.class);
+    }
+
+    static void matchesKruskal(Graph g, ForkJoinPool pool, String what) {
+        int n = g.vertexCount();
+        Graph.MSFResult forest = g.spanningForest(pool);
+        Graph.MSTResult expected = g.kruskal();
+        TestSupport.checkEquals(expected.totalCost, forest.totalCost, what + ": total weight");
+        TestSupport.checkEquals(TestSupport.edgeSet(expected), TestSupport.edgeSet(forest), what + ": edges");
+
+        // components by brute force, numbered by their smallest vertex
+        int[] label = components(g);
+        int count = 0;
+        for (int v = 0; v < n; v++) count = Math.max(count, label[v] + 1);
+        TestSupport.checkEquals(count, forest.components, what + ": component count");
+        TestSupport.check(Arrays.equals(label, forest.componentOf), what + ": componentOf");
+        TestSupport.checkEquals(count <= 1, forest.isSpanningTree(), what + ": isSpanningTree");
+
+        int[] size = new int[count];
+        for (int v = 0; v < n; v++) size[label[v]]++;
+        long total = 0;
+        for (int c = 0; c < count; c++) {
+            String at = what + ", component " + c;
+            Graph.MSTResult tree = forest.component(c);
+            TestSupport.checkEquals(size[c], forest.componentSize(c), at + ": size");
+            TestSupport.checkEquals(size[c] - 1, tree.mstEdges.size(), at + ": tree edges");
+            long cost = 0;
+            for (Edge e : tree.mstEdges) {
+                cost += e.getWeight();
+                TestSupport.check(label[g.idOf(e.getFrom())] == c && label[g.idOf(e.getTo())] == c, at + ": edge " + e + " leaves the component");
+            }
+            TestSupport.checkEquals(cost, forest.componentCost[c], at + ": componentCost");
+            TestSupport.checkEquals((int) cost, tree.totalCost, at + ": tree cost");
+            total += cost;
+        }
+        TestSupport.checkEquals((long) expected.totalCost, total, what + ": sum of component costs");
+        MstVerifier.Report r = MstVerifier.verify(g, forest);
+        TestSupport.check(r.valid, what + ": " + r);
+    }
+
+    private static int[] components(Graph g) {
+        int n = g.vertexCount();
+        List<List<Integer>> adj = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) adj.add(new ArrayList<>());
+        CsrGraph csr = g.getCsr();
+        for (int e = 0; e < csr.edgeCount(); e++) {
+            adj.get(csr.edgeFrom(e)).add(csr.edgeTo(e));
+            adj.get(csr.edgeTo(e)).add(csr.edgeFrom(e));
+        }
+        int[] label = new int[n];
+        Arrays.fill(label, -1);
+        int[] stack = new int[n];
+        int c = 0;
+        for (int s = 0; s < n; s++) {
+            if (label[s] >= 0) continue;
+            label[s] = c;
+            int sp = 0;
+            stack[sp++] = s;
+            while (sp > 0) {
+                for (int y : adj.get(stack[--sp])) {
+                    if (label[y] < 0) {
+                        label[y] = c;
+                        stack[sp++] = y;
+                    }
+                }
+            }
+            c++;
+        }
+        return label;
+    }
+}
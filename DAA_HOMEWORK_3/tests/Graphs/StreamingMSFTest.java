@@ -0,0 +1,77 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+public final class StreamingMSFTest {
+    public static void main(String[] args) {
+        for (long seed = 1; seed <= 5; seed++) {
+            Random rnd = new Random(seed);
+            for (int maxWeight : new int[]{1, 3, 1 << 20}) {
+                int components = 1 + rnd.nextInt(5);
+                Graph g = TestSupport.componentGraph(rnd, 2000, components, 5, 12000, maxWeight);
+                String what = components + " components, " + maxWeight + " weights, seed " + seed;
+                StreamingMSF msf = new StreamingMSF(g.vertexCount());
+                stream(rnd, g, msf, null);
+                matchesKruskal(g, msf, what);
+            }
+        }
+        // small graphs, checked after every batch against kruskal() of the edges seen so far
+        for (long seed = 1; seed <= 20; seed++) {
+            Random rnd = new Random(seed);
+            Graph g = TestSupport.componentGraph(rnd, 40, 3, 2, 150, 4);
+            StreamingMSF msf = new StreamingMSF(g.vertexCount());
+            String what = "seed " + seed + ", prefix of ";
+            stream(rnd, g, msf, seen -> matchesKruskal(new Graph(g.getNodes(), seen), msf, what + seen.size() + " edges"));
+        }
+        TestSupport.ok(StreamingMSFTest.class);
+    }
+
+    // feeds g's edges in a shuffled order, in random batches through both entry points
+    static void stream(Random rnd, Graph g, StreamingMSF msf, Consumer<List<Edge>> afterBatch) {
+        List<Edge> edges = new ArrayList<>(g.getEdges());
+        Collections.shuffle(edges, rnd);
+        int[] u = new int[64], v = new int[64], w = new int[64];
+        for (int at = 0; at < edges.size(); ) {
+            int count = Math.min(1 + rnd.nextInt(u.length), edges.size() - at);
+            boolean batch = rnd.nextBoolean();
+            for (int i = 0; i < count; i++) {
+                Edge e = edges.get(at + i);
+                int a = g.idOf(e.getFrom()), b = g.idOf(e.getTo());
+                if (batch) {
+                    u[i] = a;
+                    v[i] = b;
+                    w[i] = e.getWeight();
+                } else {
+                    msf.accept(a, b, e.getWeight());
+                }
+            }
+            if (batch) msf.acceptBatch(u, v, w, count);
+            at += count;
+            if (afterBatch != null) afterBatch.accept(edges.subList(0, at));
+        }
+        TestSupport.checkEquals((long) edges.size(), msf.edgesSeen(), "edges seen");
+    }
+
+    // every minimum spanning forest has the same size, cost and sorted weights
+    static void matchesKruskal(Graph g, StreamingMSF msf, String what) {
+        Graph.MSTResult expected = g.kruskal();
+        Graph.MSTResult snapshot = msf.snapshot(g::nameOf);
+        TestSupport.checkEquals((long) expected.totalCost, msf.totalCost(), what + ": cost");
+        TestSupport.checkEquals(expected.totalCost, snapshot.totalCost, what + ": snapshot cost");
+        TestSupport.checkEquals(expected.mstEdges.size(), msf.treeEdgeCount(), what + ": forest size");
+        TestSupport.checkEquals(weights(expected), weights(snapshot), what + ": weights");
+        MstVerifier.Report r = MstVerifier.verify(g, snapshot);
+        TestSupport.check(r.valid, what + ": " + r);
+    }
+
+    private static List<Integer> weights(Graph.MSTResult r) {
+        List<Integer> out = new ArrayList<>(r.mstEdges.size());
+        for (Edge e : r.mstEdges) out.add(e.getWeight());
+        Collections.sort(out);
+        return out;
+    }
+}
@@ -0,0 +1,63 @@
+package Graphs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Plain-Java test helpers: the tree has no build file and no JUnit, so every
+// *Test class is a main() that throws AssertionError on the first failure and
+// prints "OK <name>" otherwise. Tests sit in package Graphs to reach
+// package-private engines. From DAA_HOMEWORK_3 (the flag is needed for DensePrimVector):
+//   javac --add-modules jdk.incubator.vector -d /tmp/cls $(find src tests -name '*.java')
+//   java --add-modules jdk.incubator.vector -cp /tmp/cls Graphs.AllTests
+final class TestSupport {
+    private TestSupport() { }
+
+    static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+
+    static void checkEquals(Object expected, Object actual, String what) {
+        if (expected == null ? actual != null : !expected.equals(actual))
+            throw new AssertionError(what + ": expected <" + expected + "> but was <" + actual + ">");
+    }
+
+    static void ok(Class<?> test) { System.out.println("OK " + test.getSimpleName()); }
+
+    // vertices v0..v{n-1}, m edges between random pairs, weights in [0, maxWeight)
+    static Graph randomGraph(Random rnd, int n, int m, int maxWeight) {
+        List<String> nodes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) nodes.add("v" + i);
+        List<Edge> edges = new ArrayList<>(m);
+        for (int i = 0; i < m && n > 0; i++)
+            edges.add(new Edge("v" + rnd.nextInt(n), "v" + rnd.nextInt(n), rnd.nextInt(maxWeight)));
+        return new Graph(nodes, edges);
+    }
+
+    // vertices v0..v{n+isolated-1}; the first n are split into `components` groups
+    // (vertex i in group i % components) and every edge stays inside a group, so the
+    // graph has at least components + isolated components; the last `isolated`
+    // vertices get no edges. Self-loops can occur, weights in [0, maxWeight)
+    static Graph componentGraph(Random rnd, int n, int components, int isolated, int m, int maxWeight) {
+        List<String> nodes = new ArrayList<>(n + isolated);
+        for (int i = 0; i < n + isolated; i++) nodes.add("v" + i);
+        List<Edge> edges = new ArrayList<>(m);
+        for (int i = 0; i < m && n > 0; i++) {
+            int c = rnd.nextInt(Math.min(components, n)), size = (n - c + components - 1) / components;
+            int u = c + components * rnd.nextInt(size), v = c + components * rnd.nextInt(size);
+            edges.add(new Edge("v" + u, "v" + v, rnd.nextInt(maxWeight)));
+        }
+        return new Graph(nodes, edges);
+    }
+
+    // order-insensitive edge set, direction-insensitive edges
+    static List<String> edgeSet(Graph.MSTResult r) {
+        List<String> keys = new ArrayList<>(r.mstEdges.size());
+        for (Edge e : r.mstEdges) {
+            String a = e.getFrom(), b = e.getTo();
+            keys.add(a.compareTo(b) <= 0 ? a + "|" + b + "|" + e.getWeight() : b + "|" + a + "|" + e.getWeight());
+        }
+        keys.sort(null);
+        return keys;
+    }
+}